@@ -0,0 +1,21 @@
+package com.example.boardpjt.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// Redis pub/sub -> 여러 서버(노드) 간 캐시 무효화 메시지 전달용
+@Configuration
+public class RedisConfig {
+
+    // cluster.enabled: false (단일 서버 모드)면 Redis에 구독 연결을 만들지 않음
+    @Bean
+    @ConditionalOnProperty(name = "cluster.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.boardpjt.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled -> 주기적으로 실행되는 작업 (캐시 정리, 재구성 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
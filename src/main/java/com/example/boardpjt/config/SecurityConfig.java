@@ -1,11 +1,14 @@
 package com.example.boardpjt.config;
 
 import com.example.boardpjt.filter.JwtFilter;
-import com.example.boardpjt.filter.RefreshJwtFilter;
-import com.example.boardpjt.model.repository.RefreshTokenRepository;
 import com.example.boardpjt.service.CustomUserDetailsService;
+import com.example.boardpjt.service.TokenRefreshService;
+import com.example.boardpjt.service.TokenRevocationService;
+import com.example.boardpjt.util.BoundedPasswordEncoder;
 import com.example.boardpjt.util.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -34,6 +37,10 @@ public class SecurityConfig {
     // 사용자 정보를 로드하는 커스텀 서비스 (인증 시 사용자 상세정보 제공)
     private final CustomUserDetailsService userDetailsService;
 
+    // true면 JwtFilter가 DB 조회 없이 토큰 클레임만으로 인증 (기본값 false)
+    @Value("${jwt.claims-only:false}")
+    private boolean claimsOnly;
+
     /**
      * 보안 필터 체인 설정
      * HTTP 요청에 대한 보안 규칙을 정의하고 JWT 필터를 추가
@@ -56,6 +63,10 @@ public class SecurityConfig {
         http.authorizeHttpRequests(auth -> auth
                         // 홈페이지("/")와 인증 관련 경로("/auth/**")는 모든 사용자 접근 허용
                         .requestMatchers("/", "/auth/**").permitAll()
+                        // 오류 페이지(429 등)는 인증 없이 보여줌
+                        .requestMatchers("/error").permitAll()
+                        // SSE 연결 종료 시의 async dispatch (원래 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // auth/** -> 패턴 등록 -> auth/register 별도로 했다면, auth/logout
                         .requestMatchers("/css/**", "/js/**").permitAll()
 
@@ -77,29 +88,40 @@ public class SecurityConfig {
 
         // === JWT 필터 추가 ===
         // JwtFilter를 UsernamePasswordAuthenticationFilter 앞에 추가
-        // 모든 HTTP 요청이 JWT 필터를 먼저 거치도록 설정
+        // 모든 HTTP 요청이 JWT 필터를 먼저 거치도록 설정 (만료 시 재발급도 이 필터에서 함께 처리)
         http
-                .addFilterBefore(new JwtFilter(jwtUtil, userDetailsService),
-                        UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new RefreshJwtFilter(jwtUtil, userDetailsService, refreshTokenRepository), JwtFilter.class);
+                .addFilterBefore(new JwtFilter(jwtUtil, userDetailsService, tokenRefreshService,
+                                tokenRevocationService, claimsOnly),
+                        UsernamePasswordAuthenticationFilter.class);
 
         // 설정이 완료된 SecurityFilterChain 반환
         return http.build();
     }
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    // Refresh Token으로 Access Token 재발급 (JwtFilter에서 사용)
+    private final TokenRefreshService tokenRefreshService;
+
+    // 로그아웃된 Access Token 폐기 목록 (JwtFilter에서 사용)
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * 비밀번호 인코더 빈 등록
      * Spring Security에서 비밀번호 암호화에 사용
+     * bcrypt 연산은 전용 스레드 풀(auth.hashing.*)에서 실행해서 로그인이 몰려도 다른 요청을 막지 않게 함
      *
-     * @return PasswordEncoder - 위임형 패스워드 인코더 (기본적으로 BCrypt 사용)
+     * @return BoundedPasswordEncoder - 위임형 패스워드 인코더 (기본적으로 BCrypt 사용)를 감싼 인코더
      */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${auth.hashing.threads:0}") int threads,
+            @Value("${auth.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.hashing.max-wait-ms:5000}") long maxWaitMillis) {
         // DelegatingPasswordEncoder 생성 - 여러 인코딩 방식을 지원하며 기본으로 BCrypt 사용
         // {bcrypt}, {noop}, {pbkdf2} 등 다양한 인코딩 방식을 자동으로 감지하고 처리
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        PasswordEncoder delegate = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        // threads가 0이면 CPU 코어 수의 절반 (최소 1) -> 나머지 코어는 일반 요청 처리용으로 남김
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(delegate, poolSize, queueCapacity, maxWaitMillis);
     }
 
     /**
@@ -1,10 +1,13 @@
 package com.example.boardpjt.controller;
 
 import com.example.boardpjt.model.entity.RefreshToken;
-import com.example.boardpjt.model.repository.RefreshTokenRepository;
+import com.example.boardpjt.service.CustomUserDetailsService;
+import com.example.boardpjt.service.PostDetailService;
 import com.example.boardpjt.service.UserAccountService;
+import com.example.boardpjt.util.BoundedPasswordEncoder;
 import com.example.boardpjt.util.CookieUtil;
 import com.example.boardpjt.util.JwtUtil;
+import com.example.boardpjt.util.SseHub;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -22,10 +25,30 @@ public class AdminController {
     // 사용자 계정 관련 비즈니스 로직을 처리하는 서비스
     private final UserAccountService userAccountService;
 
+    // JWT 클레임 캐시 통계 조회용
+    private final JwtUtil jwtUtil;
+
+    // 비밀번호 해시 스레드 풀 통계 조회용
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    // 사용자 정보 캐시 통계 조회용
+    private final CustomUserDetailsService userDetailsService;
+
+    // 게시글 상세 캐시 통계 조회용
+    private final PostDetailService postDetailService;
+
+    // 실시간 갱신(SSE) 연결 통계 조회용
+    private final SseHub sseHub;
+
     // 회원 목록 페이지
     @GetMapping
     public String adminPage(Model model) {
         model.addAttribute("users", userAccountService.findAllUsers());
+        model.addAttribute("claimsCache", jwtUtil.getClaimsCacheStats());
+        model.addAttribute("hashing", passwordEncoder.stats());
+        model.addAttribute("userCache", userDetailsService.getCacheStats());
+        model.addAttribute("postCache", postDetailService.getCacheStats());
+        model.addAttribute("sse", sseHub.stats());
         return "admin"; // templates/admin.html
     }
 
@@ -1,10 +1,16 @@
 package com.example.boardpjt.controller;
 
 import com.example.boardpjt.model.entity.RefreshToken;
-import com.example.boardpjt.model.repository.RefreshTokenRepository;
+import com.example.boardpjt.model.repository.RefreshTokenStore;
+import com.example.boardpjt.service.TokenRefreshService;
+import com.example.boardpjt.service.TokenRevocationService;
 import com.example.boardpjt.service.UserAccountService;
+import com.example.boardpjt.service.UserPrincipal;
 import com.example.boardpjt.util.CookieUtil;
 import com.example.boardpjt.util.JwtUtil;
+import com.example.boardpjt.util.PasswordHashingRejectedException;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -97,7 +103,14 @@ public class AuthController {
         return "login";
     }
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    // Refresh Token 저장소 (auth.refresh-store.type에 따라 Redis 또는 메모리)
+    private final RefreshTokenStore refreshTokenStore;
+
+    // 로그아웃한 Access Token 폐기 목록
+    private final TokenRevocationService tokenRevocationService;
+
+    // Refresh Token으로 Access Token 재발급 (compact 프로필의 /auth/refresh)
+    private final TokenRefreshService tokenRefreshService;
 
     /**
      * 로그인 처리 메서드
@@ -125,7 +138,10 @@ public class AuthController {
 
             // === JWT 토큰 발급 단계 ===
             // 인증된 사용자 정보를 바탕으로 JWT Access Token 생성
+            // 사용자 id (uid 클레임 - 쓰기 경로에서 username으로 다시 조회하지 않음)
+            Long userId = UserPrincipal.idOf(authentication);
             String accessToken = jwtUtil.generateToken(
+                    userId, // uid 클레임 (사용자 id)
                     username, // 토큰 subject (사용자명)
                     authentication.getAuthorities().toString(), // 사용자 권한 정보
                     false // Access Token 타입 (Refresh Token이 아님)
@@ -134,17 +150,26 @@ public class AuthController {
             // === HTTP 쿠키로 토큰 저장 단계 ===
             // JWT 토큰을 HTTP 쿠키로 생성 (보안 설정 포함)
 
-            CookieUtil.createCookie(response, "access_token", accessToken, 60 * 60); // 1시간
+            // standard: 1시간 / compact: Refresh Token과 같은 7일 (만료된 토큰이 재발급 신호)
+            CookieUtil.createCookie(response, "access_token", accessToken, jwtUtil.accessCookieMaxAge());
 
             // RefreshToken 생성하여 저장 후 쿠키로 전달
-            String refreshToken = jwtUtil.generateToken(username, authentication.getAuthorities().toString(), true); // Refresh의 만료를 따르는 쿠키
-            refreshTokenRepository.save(new RefreshToken(username, refreshToken));
-            CookieUtil.createCookie(response, "refresh_token", refreshToken, 60 * 60 * 24 * 7); // 7일
+            String refreshToken = jwtUtil.generateToken(userId, username, authentication.getAuthorities().toString(), true); // Refresh의 만료를 따르는 쿠키
+            refreshTokenStore.save(new RefreshToken(username, refreshToken));
+            // compact 프로필이면 /auth 경로에만 전송 (모든 요청에 Refresh Token을 싣지 않음)
+            CookieUtil.createCookie(response, "refresh_token", refreshToken, 60 * 60 * 24 * 7, jwtUtil.refreshCookiePath()); // 7일
+            if (jwtUtil.isCompact()) {
+                // 이전 형식("/" 경로)으로 발급된 쿠키가 남아 있으면 정리
+                CookieUtil.deleteCookie(response, "refresh_token");
+            }
 
             // === 로그인 성공 후 리다이렉트 ===
             // 인증 완료 후 마이페이지로 이동
             return "redirect:/my-page";
 
+        } catch (PasswordHashingRejectedException e) {
+            // 비밀번호 해시 대기열이 가득 참 -> 429 Too Many Requests
+            throw e;
         } catch (Exception e) {
             // === 로그인 실패 처리 ===
             // 인증 실패 시 (잘못된 사용자명/비밀번호, 계정 비활성화 등)
@@ -157,11 +182,71 @@ public class AuthController {
 
     /** 로그아웃 **/
     @PostMapping("/logout") // /auth/logout
-    public String logout(HttpServletResponse response, Authentication authentication) {
+    public String logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        // Access Token 폐기 (쿠키를 지워도 토큰 자체는 만료 시각까지 유효하므로 폐기 목록에 등록)
+        String accessToken = CookieUtil.findCookie(request, "access_token");
+        if (accessToken != null) {
+            try {
+                Claims claims = jwtUtil.getClaims(accessToken);
+                tokenRevocationService.revoke(claims.getId(), claims.getExpiration().getTime());
+            } catch (Exception e) {
+                // 이미 만료되었거나 잘못된 토큰이면 폐기할 필요 없음
+            }
+        }
         // 쿠키 제거
         CookieUtil.deleteCookie(response, "access_token");
-        CookieUtil.deleteCookie(response, "refresh_token");
-        refreshTokenRepository.deleteById(authentication.getName());
+        CookieUtil.deleteCookie(response, "refresh_token", jwtUtil.refreshCookiePath());
+        // 이미 폐기/만료된 Access Token으로 다시 로그아웃하면 인증 정보가 없음 -> Refresh Token의 sub 사용
+        String refreshToken = CookieUtil.findCookie(request, "refresh_token");
+        String username = authentication != null ? authentication.getName() : usernameOf(refreshToken);
+        if (username != null) {
+            refreshTokenStore.deleteById(username);
+        }
+        // 재발급 결과 제거 (저장소에서 지운 뒤 -> 유예 시간 동안 Refresh Token 쿠키만으로 다시 인증되지 않도록)
+        if (refreshToken != null) {
+            tokenRefreshService.evict(refreshToken);
+        }
         return "redirect:/";
     }
+
+    // Refresh Token의 사용자명 (없거나 만료/위조된 토큰이면 null)
+    private String usernameOf(String refreshToken) {
+        if (refreshToken == null) {
+            return null;
+        }
+        try {
+            return jwtUtil.getUsername(refreshToken);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Access Token 재발급 (compact 프로필)
+     * Refresh Token 쿠키는 /auth 경로에만 전송되므로, JwtFilter가 만료된 Access Token을 만나면 이곳으로 보냄
+     * 재발급 후 원래 주소(next)로 307 리다이렉트 -> 요청 메서드와 본문이 그대로 다시 전송됨
+     *
+     * @param next 재발급 후 돌아갈 주소 (같은 사이트 내 경로만 허용)
+     */
+    @RequestMapping("/refresh") // /auth/refresh (GET, POST 등 모든 메서드)
+    public void refresh(@RequestParam(defaultValue = "/") String next,
+                        HttpServletRequest request,
+                        HttpServletResponse response) {
+        String refreshToken = CookieUtil.findCookie(request, "refresh_token");
+        try {
+            if (refreshToken == null) {
+                throw new IllegalStateException("Refresh Token 없음");
+            }
+            TokenRefreshService.Refreshed refreshed = tokenRefreshService.refresh(refreshToken);
+            CookieUtil.createCookie(response, "access_token", refreshed.accessToken(), jwtUtil.accessCookieMaxAge());
+        } catch (Exception e) {
+            // 재발급 실패 -> 쿠키를 지워서 다시 이곳으로 오지 않게 하고 비로그인 상태로 돌아감
+            CookieUtil.deleteCookie(response, "access_token");
+            CookieUtil.deleteCookie(response, "refresh_token", jwtUtil.refreshCookiePath());
+        }
+        // 외부 주소로의 리다이렉트(open redirect) 방지
+        boolean local = next.startsWith("/") && !next.startsWith("//") && !next.startsWith("/\\");
+        response.setStatus(HttpServletResponse.SC_TEMPORARY_REDIRECT);
+        response.setHeader(HttpHeaders.LOCATION, local ? next : "/");
+    }
 }
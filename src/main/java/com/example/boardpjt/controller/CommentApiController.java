@@ -1,14 +1,17 @@
 package com.example.boardpjt.controller;
 
 import com.example.boardpjt.model.dto.CommentDTO;
-import com.example.boardpjt.model.entity.Comment;
 import com.example.boardpjt.model.entity.Post;
 import com.example.boardpjt.service.CommentService;
+import com.example.boardpjt.service.CustomUserDetailsService;
+import com.example.boardpjt.util.ETagUtil;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,9 +20,11 @@ import java.util.List;
 @RequestMapping("/api/comments")
 public class CommentApiController {
     private final CommentService commentService;
+    // 현재 사용자 id (쓰기 경로 - username으로 사용자를 다시 조회하지 않음)
+    private final CustomUserDetailsService userDetailsService;
 
     @PostMapping("/{postId}")
-    public ResponseEntity<Comment> create(@PathVariable Long postId,
+    public ResponseEntity<CommentDTO.Response> create(@PathVariable Long postId,
                                           // JSON Body -> 변환
                                           @RequestBody CommentDTO.Request dto,
                                           Authentication authentication) {
@@ -32,8 +37,9 @@ public class CommentApiController {
             if (!dto.username().equals(authentication.getName())) {
                 throw new SecurityException("작성자와 불일치");
             }
+            // 엔티티 대신 DTO (크기가 작성자의 팔로워 수와 무관)
             return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(commentService.addComment(dto));
+                    .body(commentService.addComment(userDetailsService.findUserId(authentication), dto));
         } catch (IllegalArgumentException ex) {
             System.err.println(ex.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -52,33 +58,45 @@ public class CommentApiController {
 
     @GetMapping("/{postId}")
 //    public ResponseEntity<List<Comment>> list(@PathVariable Long postId) {
-    public ResponseEntity<List<CommentDTO.Response>> list(
-            @PathVariable Long postId) {
+    public ResponseEntity<CommentDTO.Page> list(
+            @PathVariable Long postId,
+            // 마지막으로 받은 댓글 id (처음이면 0), 한 번에 받을 개수
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit,
+            WebRequest webRequest, HttpServletResponse response) {
+        // 댓글 수/최대 id/최근 수정 시각이 그대로면 304 (목록 조회, JSON 직렬화 생략)
+        CommentDTO.Version version = commentService.findVersion(postId);
+        if (ETagUtil.checkNotModified(webRequest, response,
+                "c" + postId, after, limit, version.count(), version.maxId(), version.maxUpdatedAt())) {
+            return null;
+        }
         // 그대로 내보내면 serializer 에러
         // -> Comment -> UserAccount, Post
-        // CommentDTO.Response
-        return ResponseEntity.ok(
-                commentService.findByPostId(postId)
-                        .stream().map(c -> new CommentDTO.Response(
-                                c.getId(),
-                                c.getPost().getId(),
-                                c.getContent(),
-                                c.getAuthor().getUsername(),
-                                c.getCreatedAt().toString()
-                        )).toList());
+        // CommentDTO.Response를 쿼리에서 바로 (작성자 join, 댓글마다 작성자를 따로 읽지 않음)
+        return ResponseEntity.ok(commentService.findPage(postId, after, limit));
+
+    }
 
+    // 변경분만 (since 이후 추가된 댓글 + deletedAfter 이후 삭제된 댓글 id) -> 작성/삭제 후 전체 목록을 다시 받지 않음
+    @GetMapping("/{postId}/delta")
+    public ResponseEntity<CommentDTO.Delta> delta(
+            @PathVariable Long postId,
+            @RequestParam long since,
+            @RequestParam(defaultValue = "0") long deletedAfter,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(commentService.findDelta(postId, since, deletedAfter, limit));
     }
 
     @DeleteMapping("{id}") // commentId
     public ResponseEntity<Void> delete(@PathVariable Long id,
                                        Authentication authentication) {
         // 현재 이 댓글의 작성자와 삭제하려고 하는 사람이 일치하는지
-        Comment comment = commentService.findById(id);
-        if (!comment.getAuthor().getUsername().equals(authentication.getName())) {
-            // throw 꼭 할 필요는 없음
+        // -> DELETE ... WHERE id = ? AND user_account_id = ? 로 확인 (작성자 조회 없음)
+        try {
+            commentService.deleteById(id, userDetailsService.findUserId(authentication));
+        } catch (SecurityException ex) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
-        commentService.deleteById(id);
         return ResponseEntity.noContent().build();
     }
 
@@ -3,6 +3,7 @@ package com.example.boardpjt.controller;
 import com.example.boardpjt.model.dto.CommentDTO;
 import com.example.boardpjt.model.entity.Comment;
 import com.example.boardpjt.service.CommentService;
+import com.example.boardpjt.service.CustomUserDetailsService;
 import com.example.boardpjt.service.FollowService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -17,28 +18,37 @@ import java.util.List;
 @RequestMapping("/api/follow")
 public class FollowApiController {
     private final FollowService followService;
+    // 현재 사용자 id (username으로 사용자를 다시 조회하지 않음)
+    private final CustomUserDetailsService userDetailsService;
 
     // POST /api/follow/{userId}
     @PostMapping("/{userId}")
-    public void follow(@PathVariable Long userId,
-                       Authentication authentication) {
-        followService.followUser(authentication.getName(), userId);
+    public ResponseEntity<Void> follow(@PathVariable Long userId,
+                                       Authentication authentication) {
+        try {
+            followService.followUser(userDetailsService.findUserId(authentication), userId);
+        } catch (IllegalArgumentException ex) {
+            // 자기 자신 또는 없는 사용자
+            System.err.println(ex.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        return ResponseEntity.ok().build();
     }
 
     // DELETE /api/follow/{userId}
     @DeleteMapping("/{userId}")
     public void unfollow(@PathVariable Long userId,
                          Authentication authentication) {
-        followService.unfollowUser(authentication.getName(), userId);
+        followService.unfollowUser(userDetailsService.findUserId(authentication), userId);
     }
 
     @GetMapping("/{userId}/followingCount")
-    public int followingCount(@PathVariable Long userId) {
+    public long followingCount(@PathVariable Long userId) {
         return followService.getFollowingCount(userId);
     }
 
     @GetMapping("/{userId}/followerCount")
-    public int followerCount(@PathVariable Long userId) {
+    public long followerCount(@PathVariable Long userId) {
         return followService.getFollowerCount(userId);
     }
 }
\ No newline at end of file
@@ -2,65 +2,102 @@ package com.example.boardpjt.controller;
 
 import com.example.boardpjt.model.dto.PostDTO;
 import com.example.boardpjt.model.entity.Post;
-import com.example.boardpjt.model.entity.UserAccount;
+import com.example.boardpjt.service.CustomUserDetailsService;
+import com.example.boardpjt.service.FollowService;
+import com.example.boardpjt.service.PostCountService;
+import com.example.boardpjt.service.PostDetailService;
 import com.example.boardpjt.service.PostService;
-import com.example.boardpjt.service.UserAccountService;
+import com.example.boardpjt.service.PostViewCounter;
+import com.example.boardpjt.service.TrendingService;
+import com.example.boardpjt.util.ETagUtil;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @Controller // 스캔
 @RequiredArgsConstructor // 의존성
 @RequestMapping("/posts")
 public class PostController {
     private final PostService postService;
+    // 목록/검색 결과 전체 개수 (캐시, 근사 모드)
+    private final PostCountService postCountService;
 
     // 게시물 목록
     @GetMapping
     public String list(Model model,
 //                       @RequestParam(defaultValue = "1", required = false) int page) {
                        @RequestParam(defaultValue = "1") int page,
+                       // 직전 페이지의 마지막 게시글 id (첫 페이지면 없음)
+                       @RequestParam(required = false) Long cursor,
                        @RequestParam(required = false) String keyword) {
         if (!StringUtils.hasText(keyword)) {
             keyword = ""; // 명백히 빈 텍스트 (null 이런거 처리)
         }
-        // 유저는 페이지가 1씩 시작하는게 자연스러워요
-        Page<Post> postPage = postService.findWithPagingAndSearch(keyword, page - 1);
+        // 페이지 번호는 화면 표시용, 실제 조회는 커서 기준 (OFFSET, COUNT 없음)
+        PostDTO.CursorPage postPage = postService.findWithPagingAndSearch(keyword, cursor, page);
         // 현재 페이지
-        model.addAttribute("currentPage", page);
-        // 전체 페이지
-        model.addAttribute("totalPages", postPage.getTotalPages());
+        model.addAttribute("currentPage", postPage.page());
+        // 다음 페이지 여부와 커서 (전체 페이지 수 대신)
+        model.addAttribute("hasNext", postPage.hasNext());
+        model.addAttribute("nextCursor", postPage.nextCursor());
+        // 현재 페이지 주변의 페이지 링크
+        model.addAttribute("pageLinks", postPage.links());
+        // 전체 개수 (예: "37", "1000+")
+        model.addAttribute("totalCount", postCountService.count(keyword).display());
+        // 페이지 이동 시 검색어 유지
+        model.addAttribute("keyword", keyword);
         // 전달할 게시물 데이터
-        model.addAttribute("posts",
-//                postService.findAll()
-                // Page<Post>
-                postPage.getContent() // list화
-                        .stream().map(p -> new PostDTO.Response(
-                                p.getId(),                          // 게시물 ID
-                                p.getTitle(),                       // 제목
-                                p.getContent(),                     // 내용
-                                p.getAuthor().getUsername(),        // 작성자명
-                                p.getCreatedAt().toString()         // 작성일시 (문자열 변환)
-                        ))
-        );
+        // 목록 프로젝션 그대로 사용 (내용 전체/작성자 엔티티를 읽지 않음)
+        model.addAttribute("posts", postPage.posts());
 
         return "post/list"; // templates/post/list.html 렌더링
     }
 
-    private final UserAccountService userAccountService;
+    // 인기 게시글 목록 (미리 계산된 순위 -> 목록 프로젝션 IN 조회 1회, 집계 쿼리 없음)
+    @GetMapping("/trending")
+    public String trending(Model model) {
+        List<TrendingService.Ranked> ranked = trendingService.top();
+        model.addAttribute("posts", postService.findListItems(
+                ranked.stream().map(TrendingService.Ranked::postId).toList()));
+        return "post/trending"; // templates/post/trending.html
+    }
+
+    // 상세 스냅샷 캐시
+    private final PostDetailService postDetailService;
+    private final FollowService followService;
+    // 조회수 (메모리에 모아서 주기적으로 반영)
+    private final PostViewCounter postViewCounter;
+    // 인기 게시글 (시간 감쇠 점수)
+    private final TrendingService trendingService;
+    // 현재 사용자 id (쓰기 경로 - username으로 사용자를 다시 조회하지 않음)
+    private final CustomUserDetailsService userDetailsService;
 
     // 개별 게시물
     @GetMapping("/{id}") // GET /posts/123 형태의 요청 처리
     public String detail(@PathVariable Long id, Model model,
-                         Authentication authentication) {
+                         Authentication authentication,
+                         WebRequest webRequest, HttpServletResponse response) {
         // @PathVariable: URL 경로의 {id} 부분을 메서드 매개변수로 바인딩
-        UserAccount userAccount = userAccountService.findByUsername(authentication.getName());
-        Post post = postService.findById(id);
-        boolean followCheck = post.getAuthor().getFollowers().contains(userAccount);
+        // 캐시된 스냅샷 (작성자 엔티티/팔로워 목록을 읽지 않음)
+        PostDTO.Detail post = postDetailService.findDetail(id);
+        // 304로 끝나는 재방문도 조회로 셈
+        postViewCounter.increment(id);
+        trendingService.recordView(id, post.authorId());
+        // 팔로워 전체 대신 팔로우 관계 한 건만 확인
+        boolean followCheck = followService.isFollowing(authentication.getName(), post.authorId());
+        // 게시글 수정 시각 + 보는 사람 + 팔로우 여부가 그대로면 304 (렌더링 생략)
+        if (ETagUtil.checkNotModified(webRequest, response,
+                "p" + id, post.updatedAt(), followCheck ? 1 : 0,
+                Integer.toHexString(authentication.getName().hashCode()))) {
+            return null;
+        }
 
         model.addAttribute("followCheck", followCheck);
 
@@ -87,7 +124,7 @@ public class PostController {
         // dto? -> username
         // 불일치할 때 에러를?
         dto.setUsername(authentication.getName());
-        postService.createPost(dto);
+        postService.createPost(userDetailsService.findUserId(authentication), dto);
         return "redirect:/posts";
     }
 
@@ -97,14 +134,9 @@ public class PostController {
         // 나 자신만 삭제가 가능
         try {
             // 1번 : 삭제하려고 하는 사람과 주인이 다를 때
-            Post post = postService.findById(id);
-            String postUsername = post.getAuthor().getUsername();
-            if (!postUsername.equals(authentication.getName())) {
-                // 지금 자격증명의 유저(이름)와 게시물의 유저가 다르다.
-                throw new SecurityException("삭제 권한 없음");
-            }
-            // 2번 : 없는 걸 삭제하려고 할 때 (2번은 Service에서 throw를 하게...)
-            postService.deleteById(id);
+            // 2번 : 없는 걸 삭제하려고 할 때
+            // -> 둘 다 DELETE ... WHERE id = ? AND user_account_id = ? 한 번으로 (Service에서 throw)
+            postService.deleteById(id, userDetailsService.findUserId(authentication));
         } catch (Exception e) {
             System.err.println(e.getMessage());
         }
@@ -114,11 +146,11 @@ public class PostController {
     @GetMapping("/{id}/edit")
     public String editForm(@PathVariable Long id, Model model, Authentication authentication) {
 
-        Post post = postService.findById(id);
-
-        if (!post.getAuthor().getUsername().equals(authentication.getName())) {
+        // 권한 확인을 먼저 (작성자가 아니면 본문까지 읽을 필요 없음)
+        if (!postService.findAuthorUsername(id).equals(authentication.getName())) {
             return "redirect:/posts/" + id; // 권한 없으면 세부 페이지로 이동
         }
+        Post post = postService.findById(id);
         // form -> audit X
         model.addAttribute("post", post); // binding -> form
         return "post/edit"; // templates/post/edit.html
@@ -128,7 +160,7 @@ public class PostController {
     public String edit(@PathVariable Long id, @ModelAttribute PostDTO.Request dto, Authentication authentication) {
         dto.setUsername(authentication.getName()); // 인증 정보를 바탕으로 편집자 정보를 넣고
         try {
-            postService.updatePost(id, dto); // service를 사용해서 수정 저장 처리
+            postService.updatePost(id, userDetailsService.findUserId(authentication), dto); // service를 사용해서 수정 저장 처리
         } catch (Exception e) {
             return "redirect:/posts/" + id + "/edit";
         }
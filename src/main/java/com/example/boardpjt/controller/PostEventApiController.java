@@ -0,0 +1,27 @@
+package com.example.boardpjt.controller;
+
+import com.example.boardpjt.service.PostDetailService;
+import com.example.boardpjt.service.PostLiveEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/posts")
+public class PostEventApiController {
+    private final PostLiveEventService postLiveEventService;
+    private final PostDetailService postDetailService;
+
+    // GET /api/posts/{postId}/events -> 연결을 열어 두고 댓글/팔로우 수 변경을 받음 (text/event-stream)
+    @GetMapping(value = "/{postId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable Long postId) {
+        // 작성자 id는 상세 스냅샷 캐시에서 (없는 게시글이면 예외)
+        Long authorId = postDetailService.findDetail(postId).authorId();
+        return postLiveEventService.subscribe(postId, authorId);
+    }
+}
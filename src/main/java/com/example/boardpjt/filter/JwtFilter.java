@@ -1,31 +1,53 @@
 package com.example.boardpjt.filter;
 
+import com.example.boardpjt.service.TokenRefreshService;
+import com.example.boardpjt.service.TokenRevocationService;
+import com.example.boardpjt.service.UserPrincipal;
 import com.example.boardpjt.util.CookieUtil;
 import com.example.boardpjt.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 
 /**
  * JWT 토큰 기반 인증을 처리하는 Spring Security 필터
  * HTTP 요청마다 한 번씩 실행되어 쿠키에서 JWT 토큰을 추출하고 유효성을 검증
  * 유효한 토큰이 있을 경우 Spring Security Context에 인증 정보를 설정
+ * Access Token이 만료되었거나 없으면 Refresh Token으로 재발급까지 한 번에 처리
+ * 쿠키 탐색과 토큰 검증은 요청당 1회만 수행
+ * compact 프로필에서는 Refresh Token 쿠키가 /auth 아래로만 전송되므로,
+ * 만료된 Access Token이 오면 /auth/refresh로 보냈다가(307) 원래 주소로 돌아오게 함
  */
 @RequiredArgsConstructor // final 필드에 대한 생성자 자동 생성 (의존성 주입용)
 public class JwtFilter extends OncePerRequestFilter {
     // 참고: SecurityConfig에서 이 필터를 생성하고 필터 체인에 추가함
 
+    // 인증이 필요 없는 정적 리소스 경로 (필터 로직 자체를 건너뜀)
+    public static final String[] STATIC_PATHS = {"/css/", "/js/", "/images/", "/favicon.ico"};
+
+    private static final String ACCESS_TOKEN = "access_token";
+    private static final String REFRESH_TOKEN = "refresh_token";
+
+    // compact 프로필의 재발급 경로 (AuthController.refresh)
+    private static final String REFRESH_PATH = "/auth/refresh";
+
     // JWT 토큰 생성, 검증, 파싱을 담당하는 유틸리티 클래스
     private final JwtUtil jwtUtil;
 
@@ -33,6 +55,33 @@ public class JwtFilter extends OncePerRequestFilter {
     private final UserDetailsService userDetailsService;
     // 주의: 이 클래스는 Spring Bean이 아니므로 SecurityConfig에서 수동으로 의존성 주입
 
+    // Refresh Token 검증 및 Access Token 재발급 (동시 요청은 하나로 합쳐서 처리)
+    private final TokenRefreshService tokenRefreshService;
+
+    // 로그아웃으로 폐기된 Access Token 확인 (Bloom filter, 대부분의 요청은 I/O 없음)
+    private final TokenRevocationService tokenRevocationService;
+
+    // true면 DB 조회 없이 토큰의 sub/role 클레임만으로 인증 정보를 구성 (jwt.claims-only)
+    // 토큰은 서명 검증이 끝난 상태이므로, 권한 변경은 Refresh 시점(DB 조회)에 반영됨
+    private final boolean claimsOnly;
+
+    /**
+     * 정적 리소스 요청은 필터를 거치지 않음 (쿠키 파싱, 토큰 검증 모두 생략)
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        if (path.equals(REFRESH_PATH)) {
+            return true; // 재발급은 컨트롤러가 직접 처리 (필터와 중복 재발급 방지)
+        }
+        for (String prefix : STATIC_PATHS) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * HTTP 요청마다 실행되는 필터 메인 로직
      * 쿠키에서 JWT 토큰을 추출하고, 유효한 경우 Spring Security Context에 인증 정보 설정
@@ -48,65 +97,49 @@ public class JwtFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        // === 1단계: 쿠키에서 JWT 토큰 추출 ===
-        String token = CookieUtil.findCookie(request, "access_token");
-//        String token = null;
-//
-//        // 요청에 쿠키가 있는지 확인
-//        if (request.getCookies() != null) {
-//            // 모든 쿠키를 순회하면서 "access_token" 이름의 쿠키 찾기
-//            for (Cookie c : request.getCookies()) {
-//                if (c.getName().equals("access_token")) {
-//                    token = c.getValue(); // JWT 토큰 값 추출
-//                    break; // 토큰을 찾았으므로 반복 종료
-//                }
-//            }
-//        }
-
-        // 디버깅용 로그 출력 (운영환경에서는 제거 권장)
-        System.out.println("token = " + token);
-
-        // === 2단계: 토큰이 없는 경우 처리 ===
-        if (token == null) {
+        // === 1단계: 쿠키에서 Access/Refresh Token을 한 번에 추출 ===
+        Map<String, String> cookies = CookieUtil.findCookies(request, ACCESS_TOKEN, REFRESH_TOKEN);
+        String token = cookies.get(ACCESS_TOKEN);
+        String refreshToken = cookies.get(REFRESH_TOKEN);
+
+        // === 2단계: 토큰이 하나도 없는 경우 처리 ===
+        if (token == null && refreshToken == null) {
             // JWT 토큰이 없는 경우 인증 없이 다음 필터로 요청 전달
             // 이 경우 SecurityConfig의 설정에 따라 접근 제한이 적용됨
             filterChain.doFilter(request, response);
             return; // 메서드 종료
         }
 
-        // === 3단계: JWT 토큰 검증 및 인증 정보 설정 ===
+        // === 3단계: JWT 토큰 검증(1회) 및 인증 정보 설정 ===
         try {
-            // JWT 토큰에서 사용자명(username) 추출
-            // jwtUtil.getUsername()에서 토큰 유효성도 함께 검증됨
-            String username = jwtUtil.getUsername(token);
-
-            // 추출한 사용자명으로 데이터베이스에서 사용자 세부 정보 조회
-            // UserDetailsService는 일반적으로 DB에서 사용자 정보와 권한을 로드
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            // === Spring Security 인증 객체 생성 ===
-            // UsernamePasswordAuthenticationToken (UPAT) 생성
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    userDetails,                    // 주체(Principal) - 인증된 사용자 정보
-                    null,                          // 자격증명(Credentials) - JWT에서는 사용하지 않음
-                    userDetails.getAuthorities()   // 권한(Authorities) - 사용자 역할/권한 목록
-            );
+            Authentication authentication;
+            if (token == null) {
+                // Access Token 쿠키가 만료되어 브라우저가 보내지 않은 경우 -> 바로 재발급
+                authentication = handleRefreshToken(refreshToken, response);
+            } else {
+                authentication = authenticate(token, refreshToken, response);
+            }
 
             // === Spring Security Context에 인증 정보 저장 ===
             // SecurityContextHolder에 인증 정보를 설정하면 이후 모든 Spring Security 컴포넌트에서
             // 현재 사용자가 인증되었음을 인식하고 해당 사용자 정보에 접근할 수 있음
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+
+        } catch (ExpiredJwtException e) {
+            // Access Token은 만료됐는데 Refresh Token 쿠키가 함께 오지 않은 경우
+            // compact 프로필: Refresh Token이 /auth 경로에만 있으므로 재발급 경로로 보냄
+            if (jwtUtil.isCompact()) {
+                redirectToRefresh(request, response);
+                return;
+            }
+            // standard 프로필: Refresh Token도 없는 것이므로 인증 없이 진행
         } catch (Exception e) {
-            // JWT 토큰 검증 실패, 사용자 조회 실패 등의 예외 처리
+            // JWT 토큰 검증 실패, 재발급 실패, 사용자 조회 실패 등의 예외 처리
             // 예외 발생 시 에러 로그만 출력하고 인증 없이 진행
             // (SecurityConfig 설정에 따라 접근 제한 적용됨)
             System.err.println("JWT 인증 처리 중 오류 발생: " + e.getMessage());
-
-            // 추가 개선사항: 구체적인 예외 타입별로 다른 처리 가능
-            // - ExpiredJwtException: 토큰 만료
-            // - MalformedJwtException: 잘못된 토큰 형식
-            // - UsernameNotFoundException: 사용자 없음
         }
 
         // === 4단계: 다음 필터로 요청 전달 ===
@@ -114,4 +147,90 @@ public class JwtFilter extends OncePerRequestFilter {
         // 이는 필터 체인의 정상적인 흐름을 보장하기 위함
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Access Token을 검증해서 인증 객체 생성, 만료된 경우에만 Refresh Token으로 재발급
+     */
+    private Authentication authenticate(String token, String refreshToken, HttpServletResponse response) {
+        Claims claims;
+        try {
+            // JWT 토큰 검증 및 클레임 추출 (서명, 만료시간 검증 포함)
+            claims = jwtUtil.getClaims(token);
+        } catch (ExpiredJwtException ex) {
+            // 만료 시에는 알아서 재발급 (Refresh Token이 없으면 doFilterInternal에서 처리)
+            if (refreshToken == null) {
+                throw ex;
+            }
+            return handleRefreshToken(refreshToken, response);
+        }
+
+        // 로그아웃으로 폐기된 토큰이면 비인증으로 진행 (재발급도 하지 않음)
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            return null;
+        }
+
+        // 모드에 따라 인증 객체 생성 (클레임만 사용 / DB에서 사용자 조회)
+        return claimsOnly
+                ? authenticationFromClaims(claims)
+                : authenticationFromDatabase(claims.getSubject());
+    }
+
+    /**
+     * Refresh Token을 검증하고 새 Access Token을 쿠키로 발급
+     *
+     * @return Authentication 재발급된 사용자의 인증 객체
+     */
+    private Authentication handleRefreshToken(String refreshToken, HttpServletResponse response) {
+        // 같은 Refresh Token으로 동시에 들어온 요청은 한 번의 재발급 결과를 공유
+        TokenRefreshService.Refreshed refreshed = tokenRefreshService.refresh(refreshToken);
+        CookieUtil.createCookie(response, ACCESS_TOKEN, refreshed.accessToken(), jwtUtil.accessCookieMaxAge());
+
+        UserDetails userDetails = refreshed.userDetails();
+        return new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+    }
+
+    /**
+     * 재발급 경로로 307 리다이렉트 (메서드와 본문을 유지한 채 원래 주소로 돌아올 수 있도록 next에 담음)
+     */
+    private void redirectToRefresh(HttpServletRequest request, HttpServletResponse response) {
+        String next = request.getRequestURI();
+        if (request.getQueryString() != null) {
+            next += "?" + request.getQueryString();
+        }
+        response.setStatus(HttpServletResponse.SC_TEMPORARY_REDIRECT);
+        response.setHeader("Location", request.getContextPath() + REFRESH_PATH
+                + "?next=" + URLEncoder.encode(next, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 클레임만으로 인증 객체를 생성 (DB 조회 없음)
+     * JwtUtil.generateToken()이 sub(사용자명), role(권한), uid(사용자 id)를 이미 담고 있으므로 그대로 사용
+     */
+    private Authentication authenticationFromClaims(Claims claims) {
+        List<GrantedAuthority> authorities = jwtUtil.getAuthorities(claims);
+        // JWT 인증에서는 비밀번호가 필요 없으므로 빈 문자열
+        UserDetails userDetails = new UserPrincipal(jwtUtil.getUserId(claims), claims.getSubject(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
+    }
+
+    /**
+     * 데이터베이스에서 사용자 정보를 조회해서 인증 객체를 생성 (기존 방식)
+     */
+    private Authentication authenticationFromDatabase(String username) {
+        // 추출한 사용자명으로 데이터베이스에서 사용자 세부 정보 조회
+        // UserDetailsService는 일반적으로 DB에서 사용자 정보와 권한을 로드
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+
+        // === Spring Security 인증 객체 생성 ===
+        // UsernamePasswordAuthenticationToken (UPAT) 생성
+        return new UsernamePasswordAuthenticationToken(
+                userDetails,                    // 주체(Principal) - 인증된 사용자 정보
+                null,                          // 자격증명(Credentials) - JWT에서는 사용하지 않음
+                userDetails.getAuthorities()   // 권한(Authorities) - 사용자 역할/권한 목록
+        );
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.boardpjt.model.dto;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public class CommentDTO {
     public record Request(
             Long postId,
@@ -12,5 +15,31 @@ public class CommentDTO {
             String content, // 댓글 내용
             String username, // 댓글 작성자
             String createdAt // 댓글 작성일
+    ) {
+        // JPQL 생성자 프로젝션용 (작성일은 문자열로 바꿔서 응답)
+        public Response(Long id, Long postId, String content, String username, LocalDateTime createdAt) {
+            this(id, postId, content, username, createdAt.toString());
+        }
+    }
+    // 댓글 목록 한 페이지 (id 순서, after 커서 이후 limit개)
+    public record Page(
+            List<Response> comments,
+            boolean hasMore, // 다음 페이지 여부
+            Long lastId, // 다음 페이지/변경분 조회의 after, since 값
+            long tombstoneCursor // 변경분 조회의 deletedAfter 값 (첫 페이지 조회 시점의 마지막 삭제 기록)
+    ) {}
+    // 댓글 변경분 (since 이후 추가된 댓글 + deletedAfter 이후 삭제된 댓글 id)
+    public record Delta(
+            List<Response> added,
+            List<Long> deleted,
+            boolean hasMore, // 한 번에 다 못 보냈으면 lastId/tombstoneCursor로 다시 조회
+            Long lastId,
+            long tombstoneCursor
+    ) {}
+    // 게시글의 댓글 목록 버전 (ETag용) - 작성/삭제 시 개수나 최대 id가 바뀜
+    public record Version(
+            Long count, // 댓글 수
+            Long maxId, // 가장 최근 댓글 id (댓글이 없으면 null)
+            LocalDateTime maxUpdatedAt // 가장 최근 수정 시각
     ) {}
 }
\ No newline at end of file
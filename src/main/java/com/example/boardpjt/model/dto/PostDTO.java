@@ -3,6 +3,9 @@ package com.example.boardpjt.model.dto;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public class PostDTO {
     @Getter
     @Setter
@@ -14,4 +17,29 @@ public class PostDTO {
 
     public record Response(Long id, String title, String content, String username, String createdAt) {
     }
+
+    // 목록 화면용 (생성자 프로젝션) - 작성자명은 join으로 함께 조회, 내용(TEXT) 대신 미리보기
+    public record ListItem(Long id, String title, String snippet, String username, LocalDateTime createdAt, long views) {
+    }
+
+    // 상세 화면용 불변 스냅샷 (생성자 프로젝션, 캐시에 그대로 보관) - 작성자는 id/이름만
+    public record Detail(Long id, String title, String content, Long authorId, String authorUsername,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    // 커서(keyset) 페이지: 전체 개수 대신 다음 페이지 존재 여부 + 현재 페이지 주변의 링크만
+    public record CursorPage(List<ListItem> posts, int page, boolean hasNext, Long nextCursor, List<PageLink> links) {
+    }
+
+    // 페이지 링크 (cursor: 직전 페이지의 마지막 게시글 id, 첫 페이지면 null)
+    public record PageLink(int page, Long cursor) {
+    }
+
+    // 전체 개수 (capped: 근사 모드에서 기준값을 넘어 value까지만 센 경우)
+    public record TotalCount(long value, boolean capped) {
+        // 화면 표시 (예: "37", "1000+")
+        public String display() {
+            return capped ? value + "+" : String.valueOf(value);
+        }
+    }
 }
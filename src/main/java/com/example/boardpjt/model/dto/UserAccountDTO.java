@@ -0,0 +1,11 @@
+package com.example.boardpjt.model.dto;
+
+public class UserAccountDTO {
+    // 인증에 필요한 정보만 담은 불변 스냅샷 (엔티티 대신 캐시에 보관)
+    public record Snapshot(
+            Long id,
+            String username,
+            String password, // 암호화된 비밀번호 (해시)
+            String role
+    ) {}
+}
@@ -0,0 +1,30 @@
+package com.example.boardpjt.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 삭제된 댓글 기록 (댓글 변경분 조회용)
+ * 클라이언트가 마지막으로 받은 기록 id 이후에 삭제된 댓글 id만 내려주기 위해 사용
+ * 일정 기간(기본 7일)이 지나면 정리 (db/comment_tombstone.sql)
+ */
+@Entity
+@Getter
+@Setter
+@Table(indexes = @Index(name = "idx_comment_tombstone_post", columnList = "post_id, id"))
+public class CommentTombstone extends BaseEntity {
+
+    // 삭제 순서 (변경분 조회의 커서)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 삭제된 댓글 id (댓글 행은 이미 없으므로 연관관계 없이 값만)
+    @Column(name = "comment_id", nullable = false)
+    private Long commentId;
+
+    // 댓글이 달려 있던 게시글 id
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+}
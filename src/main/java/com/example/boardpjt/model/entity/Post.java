@@ -20,8 +20,36 @@ public class Post extends BaseEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 목록용 미리보기 (내용 앞부분, 저장 시점에 계산) -> 목록에서는 TEXT 컬럼을 읽지 않음
+    // 기존 데이터는 db/post_snippet.sql로 채움
+    @Column(length = 200)
+    private String snippet;
+
+    // 조회수 - PostViewCounter가 모아서 UPDATE로만 증가시킴
+    // 엔티티 저장(수정) 시에는 UPDATE에서 제외 -> 읽어 둔 옛 값으로 덮어쓰지 않음 (db/post_views.sql)
+    @Column(nullable = false, updatable = false)
+    private long views;
+
     // 현재 entity -> 게시물이 많은쪽
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_account_id", nullable = false)
     private UserAccount author;
+
+    // 미리보기 최대 글자 수
+    public static final int SNIPPET_LENGTH = 100;
+
+    // 내용이 바뀔 때 미리보기도 함께 갱신 (Lombok setter 대신 사용)
+    public void setContent(String content) {
+        this.content = content;
+        this.snippet = snippetOf(content);
+    }
+
+    // 연속 공백/줄바꿈은 한 칸으로, SNIPPET_LENGTH자까지만
+    public static String snippetOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String flat = content.replaceAll("\\s+", " ").trim();
+        return flat.length() <= SNIPPET_LENGTH ? flat : flat.substring(0, SNIPPET_LENGTH) + "…";
+    }
 }
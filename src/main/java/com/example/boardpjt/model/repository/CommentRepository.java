@@ -1,15 +1,35 @@
 package com.example.boardpjt.model.repository;
 
+import com.example.boardpjt.model.dto.CommentDTO;
 import com.example.boardpjt.model.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    // JPA Query Method
-    // 게시물에 속한 댓글을 찾는 메서드
-    List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
-    // findBy
-    // PostId -> 속한 join -> 게시물
-    // OrderBy / CreatedAt (audit, base entity) / Asc -> 오름차순정렬
+    // 작성자 본인일 때만 DELETE 한 번 (엔티티를 읽지 않음)
+    // DELETE FROM comment WHERE id = ? AND user_account_id = ?
+    @Modifying
+    @Query("delete from Comment c where c.id = :id and c.author.id = :authorId")
+    int deleteOwned(@Param("id") Long id, @Param("authorId") Long authorId);
+
+    // 커서(after) 이후 댓글 응답 (id 순서 = 작성 순서, post_id 인덱스 범위 조회)
+    // 작성자 join 한 번 -> 작성자별 UserAccount 지연 로딩(N+1) 없음
+    @Query("select new com.example.boardpjt.model.dto.CommentDTO$Response(c.id, c.post.id, c.content, a.username, c.createdAt)"
+            + " from Comment c join c.author a where c.post.id = :postId and c.id > :after order by c.id asc")
+    List<CommentDTO.Response> findResponsesAfter(@Param("postId") Long postId, @Param("after") long after, Limit limit);
+
+    // 댓글이 달린 게시글 id (삭제 기록용)
+    @Query("select c.post.id from Comment c where c.id = :id")
+    Optional<Long> findPostIdById(@Param("id") Long id);
+
+    // 댓글 목록 버전 (post_id 인덱스만 읽음, 댓글 본문/엔티티 로딩 없음)
+    @Query("select new com.example.boardpjt.model.dto.CommentDTO$Version(count(c), max(c.id), max(c.updatedAt))"
+            + " from Comment c where c.post.id = :postId")
+    CommentDTO.Version findVersionByPostId(@Param("postId") Long postId);
 }
@@ -0,0 +1,27 @@
+package com.example.boardpjt.model.repository;
+
+import com.example.boardpjt.model.entity.CommentTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CommentTombstoneRepository extends JpaRepository<CommentTombstone, Long> {
+
+    // 커서 이후 삭제된 기록 (삭제 순서대로)
+    @Query("select t from CommentTombstone t where t.postId = :postId and t.id > :after order by t.id asc")
+    List<CommentTombstone> findAfter(@Param("postId") Long postId, @Param("after") long after, Limit limit);
+
+    // 게시글의 마지막 삭제 기록 id (없으면 0) - 첫 조회 시 변경분 커서의 시작점
+    @Query("select coalesce(max(t.id), 0) from CommentTombstone t where t.postId = :postId")
+    long findLatestId(@Param("postId") Long postId);
+
+    // 보관 기간이 지난 기록 정리
+    @Modifying
+    @Query("delete from CommentTombstone t where t.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
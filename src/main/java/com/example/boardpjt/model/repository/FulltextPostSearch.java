@@ -0,0 +1,138 @@
+package com.example.boardpjt.model.repository;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 게시글 검색 - MySQL FULLTEXT 구현 (search.backend: fulltext)
+ * ngram 파서 FULLTEXT 색인에서 MATCH ... AGAINST (boolean mode)로 검색 -> 테이블 전체 스캔 없음
+ * 별도 색인 프로세스/파일 없이 DB가 색인을 관리
+ * - search.order: id(기본값, 최신순) / relevance(관련도순)
+ * - 검색어 중 ngram 크기(2글자)보다 짧은 단어가 있으면 색인으로 찾을 수 없으므로 LIKE 검색으로 처리
+ */
+@Repository
+@ConditionalOnProperty(name = "search.backend", havingValue = "fulltext")
+public class FulltextPostSearch implements PostSearch {
+
+    private static final String INDEX_NAME = "ft_post_title_content";
+
+    // MySQL ngram_token_size 기본값
+    private static final int NGRAM_SIZE = 2;
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean orderByRelevance;
+    private final boolean createIndex;
+
+    public FulltextPostSearch(PostRepository postRepository,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${search.order:id}") String order,
+                              @Value("${search.fulltext.create-index:true}") boolean createIndex) {
+        this.postRepository = postRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderByRelevance = "relevance".equalsIgnoreCase(order);
+        this.createIndex = createIndex;
+    }
+
+    /**
+     * FULLTEXT 색인이 없으면 생성 (db/post_fulltext.sql)
+     */
+    @PostConstruct
+    void ensureIndex() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics"
+                        + " WHERE table_schema = DATABASE() AND table_name = 'post' AND index_name = ?",
+                Integer.class, INDEX_NAME);
+        if (count != null && count > 0) {
+            return;
+        }
+        if (!createIndex) {
+            System.err.println("FULLTEXT 색인(" + INDEX_NAME + ")이 없습니다. db/post_fulltext.sql을 먼저 실행하세요.");
+            return;
+        }
+        try {
+            String sql = new ClassPathResource("db/post_fulltext.sql").getContentAsString(StandardCharsets.UTF_8);
+            // 주석 줄을 제외한 ALTER 문 실행
+            String statement = sql.lines()
+                    .filter(line -> !line.trim().startsWith("--"))
+                    .reduce("", (a, b) -> a + " " + b)
+                    .replace(";", "")
+                    .trim();
+            jdbcTemplate.execute(statement);
+            System.out.println("FULLTEXT 색인 생성 완료: " + INDEX_NAME);
+        } catch (IOException e) {
+            throw new IllegalStateException("db/post_fulltext.sql 읽기 실패", e);
+        }
+    }
+
+    @Override
+    public List<Long> findIdsBefore(String keyword, long cursor, int limit) {
+        String query = toBooleanQuery(keyword);
+        if (query == null) {
+            return postRepository.searchIdsBefore(keyword, cursor, Limit.of(limit));
+        }
+        if (!orderByRelevance) {
+            return postRepository.searchFulltextIdsBefore(query, cursor, limit);
+        }
+        if (cursor == Long.MAX_VALUE) {
+            return postRepository.searchFulltextIdsByRelevance(query, limit);
+        }
+        List<Long> ids = postRepository.searchFulltextIdsByRelevanceBefore(query, cursor, limit);
+        // 커서 게시글이 그 사이 삭제됐으면 점수를 다시 계산할 수 없어 결과가 비어 있음 -> 첫 페이지부터
+        if (ids.isEmpty() && !postRepository.existsById(cursor)) {
+            return postRepository.searchFulltextIdsByRelevance(query, limit);
+        }
+        return ids;
+    }
+
+    @Override
+    public List<Long> findIdsAfter(String keyword, long cursor, int limit) {
+        String query = toBooleanQuery(keyword);
+        if (query == null) {
+            return postRepository.searchIdsAfter(keyword, cursor, Limit.of(limit));
+        }
+        // 관련도순에서 커서 게시글이 삭제됐으면 빈 목록 -> 이전 페이지 링크 없이 첫 페이지 링크만 남음
+        return orderByRelevance
+                ? postRepository.searchFulltextIdsByRelevanceAfter(query, cursor, limit)
+                : postRepository.searchFulltextIdsAfter(query, cursor, limit);
+    }
+
+    @Override
+    public long count(String keyword) {
+        String query = toBooleanQuery(keyword);
+        return query == null
+                ? postRepository.countByKeyword(keyword)
+                : postRepository.countFulltext(query);
+    }
+
+    /**
+     * 검색어 -> boolean mode 검색식
+     * 공백으로 나눈 단어마다 +"단어" (모든 단어를 포함, 단어 안의 ngram은 연속으로 일치)
+     * boolean 연산자 문자는 제거해서 사용자가 입력한 기호가 연산자로 해석되지 않게 함
+     *
+     * @return String 검색식 (ngram보다 짧은 단어가 있으면 null)
+     */
+    static String toBooleanQuery(String keyword) {
+        StringBuilder query = new StringBuilder();
+        for (String word : keyword.trim().split("\\s+")) {
+            String cleaned = word.replaceAll("[+\\-<>()~*\"@]", "");
+            if (cleaned.isEmpty()) {
+                continue;
+            }
+            if (cleaned.length() < NGRAM_SIZE) {
+                return null;
+            }
+            query.append("+\"").append(cleaned).append("\" ");
+        }
+        return query.isEmpty() ? null : query.toString().trim();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.boardpjt.model.repository;
+
+import com.example.boardpjt.model.entity.RefreshToken;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Refresh Token 저장소 - 메모리 구현 (auth.refresh-store.type: memory)
+ * Redis 없이 단일 서버로 실행하거나, 네트워크 왕복 없는 부하 테스트 대상으로 사용
+ * - 저장: 사용자명 해시로 나눈 여러 구역(stripe)마다 별도의 락 -> 서로 다른 사용자끼리는 경합 없음
+ * - 만료: hashed wheel 타이머 -> 한 칸(tick)마다 해당 칸의 항목만 확인해서 만료된 토큰 제거
+ * 주의: 서버를 재시작하면 저장된 토큰이 사라짐 (다시 로그인 필요)
+ */
+@Repository
+@ConditionalOnProperty(name = "auth.refresh-store.type", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    // 락 구역 수 (2의 거듭제곱 -> 비트 연산으로 구역 선택)
+    private static final int STRIPES = 64;
+
+    // 타이머 바퀴 칸 수, 한 칸의 시간 간격
+    private static final int WHEEL_SIZE = 512;
+    private static final long TICK_MILLIS = 1000;
+
+    private record Entry(String token, long expiresAt) {
+    }
+
+    // 타이머 바퀴에 걸어두는 만료 예약 (토큰 값까지 비교해서 재로그인한 토큰은 지우지 않음)
+    private record Timeout(String username, String token, long expiresAt) {
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Entry> entries = new HashMap<>();
+    }
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    @SuppressWarnings("unchecked")
+    private final Queue<Timeout>[] wheel = new Queue[WHEEL_SIZE];
+
+    private final long ttlMillis;
+    private final ScheduledExecutorService ticker;
+
+    // 마지막으로 처리한 tick 번호 (ticker 스레드에서만 변경)
+    private long lastTick = System.currentTimeMillis() / TICK_MILLIS;
+
+    public InMemoryRefreshTokenStore(@Value("${auth.refresh-store.ttl-ms:604800000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "refresh-token-wheel");
+            t.setDaemon(true);
+            return t;
+        });
+        ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        Stripe stripe = stripeOf(refreshToken.getUsername());
+        stripe.lock.lock();
+        try {
+            stripe.entries.put(refreshToken.getUsername(), new Entry(refreshToken.getToken(), expiresAt));
+        } finally {
+            stripe.lock.unlock();
+        }
+        schedule(new Timeout(refreshToken.getUsername(), refreshToken.getToken(), expiresAt));
+    }
+
+    @Override
+    public boolean matches(String username, String token) {
+        Stripe stripe = stripeOf(username);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(username);
+            // 타이머가 아직 돌지 않았더라도 만료 시각이 지났으면 불일치로 처리
+            return entry != null
+                    && entry.expiresAt() > System.currentTimeMillis()
+                    && entry.token().equals(token);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String username) {
+        Stripe stripe = stripeOf(username);
+        stripe.lock.lock();
+        try {
+            stripe.entries.remove(username);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 저장된 토큰 수 (테스트/모니터링용)
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    private Stripe stripeOf(String username) {
+        int h = username.hashCode();
+        h ^= (h >>> 16); // 상위 비트도 구역 선택에 반영
+        return stripes[h & (STRIPES - 1)];
+    }
+
+    private void schedule(Timeout timeout) {
+        long tick = timeout.expiresAt() / TICK_MILLIS;
+        wheel[(int) (tick % WHEEL_SIZE)].add(timeout);
+    }
+
+    /**
+     * 1 tick마다 지나간 칸의 예약만 확인 (스케줄러가 늦게 돌아 건너뛴 칸도 함께 처리)
+     * 만료 시각이 아직 남은 예약(바퀴를 한 바퀴 이상 돌아야 하는 TTL)은 같은 칸에 다시 넣음
+     */
+    void tick() {
+        long now = System.currentTimeMillis();
+        long currentTick = now / TICK_MILLIS;
+        long from = Math.max(lastTick + 1, currentTick - WHEEL_SIZE + 1);
+        for (long t = from; t <= currentTick; t++) {
+            Queue<Timeout> bucket = wheel[(int) (t % WHEEL_SIZE)];
+            int pending = bucket.size(); // 이번 tick에 다시 넣는 항목은 다음 바퀴에 확인
+            for (int i = 0; i < pending; i++) {
+                Timeout timeout = bucket.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.expiresAt() > now) {
+                    bucket.add(timeout);
+                    continue;
+                }
+                expire(timeout);
+            }
+        }
+        lastTick = currentTick;
+    }
+
+    private void expire(Timeout timeout) {
+        Stripe stripe = stripeOf(timeout.username());
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(timeout.username());
+            // 같은 토큰일 때만 제거 (그 사이 재로그인했다면 새 토큰은 유지)
+            if (entry != null && entry.token().equals(timeout.token())) {
+                stripe.entries.remove(timeout.username());
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+}
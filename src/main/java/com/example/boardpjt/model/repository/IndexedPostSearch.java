@@ -0,0 +1,199 @@
+package com.example.boardpjt.model.repository;
+
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.service.PostChangedEvent;
+import com.example.boardpjt.util.InvertedIndex;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 검색 - 역색인 구현 (search.backend: index)
+ * - 게시글 생성/수정/삭제 이벤트(PostChangedEvent)를 받아 색인을 바로 갱신
+ * - 주기적으로(그리고 종료 시) 세그먼트 파일로 저장
+ * - 시작 시 세그먼트 파일을 읽고, 저장 이후 바뀐 게시글만 DB에서 다시 색인 (파일이 없을 때만 전체 재색인)
+ * - 색인 준비가 끝나기 전의 검색은 LIKE 검색으로 처리
+ * - 준비 중에 들어온 변경 이벤트는 모아 두었다가 준비가 끝난 뒤 순서대로 반영
+ *   (준비 중에 읽은 DB 내용이 그 사이의 수정/삭제를 덮어쓰거나, 새 글이 삭제 대상으로 잘못 처리되지 않도록)
+ */
+@Repository
+@ConditionalOnProperty(name = "search.backend", havingValue = "index")
+public class IndexedPostSearch implements PostSearch {
+
+    // 전체 재색인 시 한 번에 읽는 게시글 수
+    private static final int REBUILD_BATCH = 500;
+
+    // 저장 시각 직전에 커밋된 변경을 놓치지 않도록 재시작 시 조금 더 앞부터 다시 색인
+    private static final long CATCH_UP_MARGIN_MILLIS = 60_000;
+
+    private final PostRepository postRepository;
+    private final Path segmentFile;
+    private final InvertedIndex index = new InvertedIndex();
+
+    private volatile boolean ready;
+
+    // 색인 준비 중에 들어온 변경 이벤트 (준비 실패 시 null -> 더 모으지 않음), loadLock으로 보호
+    private final Object loadLock = new Object();
+    private List<PostChangedEvent> pending = new ArrayList<>();
+
+    public IndexedPostSearch(PostRepository postRepository,
+                             @Value("${search.index.dir:./data/search}") String dir) {
+        this.postRepository = postRepository;
+        this.segmentFile = Path.of(dir, "posts.seg");
+    }
+
+    /**
+     * 서버 시작 후 별도 스레드에서 색인 준비 (시작 시간을 늦추지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread loader = new Thread(this::loadIndex, "post-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void loadIndex() {
+        long started = System.currentTimeMillis();
+        try {
+            long watermark = index.readFrom(segmentFile);
+            if (watermark < 0) {
+                rebuild();
+            } else {
+                catchUp(watermark);
+            }
+            // 준비 중에 커밋된 변경을 순서대로 반영한 뒤 준비 완료 (이후 이벤트는 바로 반영)
+            synchronized (loadLock) {
+                pending.forEach(this::apply);
+                pending = null;
+                ready = true;
+            }
+            System.out.println("게시글 검색 색인 준비 완료: " + index.size() + "건 ("
+                    + (System.currentTimeMillis() - started) + "ms)");
+            flush();
+        } catch (Exception e) {
+            // 색인을 못 만들면 LIKE 검색으로 계속 동작
+            synchronized (loadLock) {
+                pending = null;
+            }
+            System.err.println("게시글 검색 색인 준비 실패: " + e.getMessage());
+        }
+    }
+
+    // 세그먼트 파일이 없을 때: 전체 게시글을 id 순서대로 나눠서 색인
+    private void rebuild() {
+        long lastId = 0;
+        while (true) {
+            List<Post> batch = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH));
+            for (Post post : batch) {
+                index.put(post.getId(), post.getTitle(), post.getContent());
+            }
+            if (batch.size() < REBUILD_BATCH) {
+                return;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    // 세그먼트 파일이 있을 때: 저장 이후 생성/수정된 글은 다시 색인, DB에 없는 글은 제거
+    private void catchUp(long watermark) {
+        LocalDateTime since = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(watermark - CATCH_UP_MARGIN_MILLIS), ZoneId.systemDefault());
+        for (Post post : postRepository.findByUpdatedAtGreaterThanEqual(since)) {
+            index.put(post.getId(), post.getTitle(), post.getContent());
+        }
+        Set<Long> existing = new HashSet<>(postRepository.findAllIds());
+        for (Long id : index.ids()) {
+            if (!existing.contains(id)) {
+                index.remove(id);
+            }
+        }
+    }
+
+    /**
+     * 게시글 변경 -> 색인 갱신 (커밋된 경우에만)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (!ready) {
+            synchronized (loadLock) {
+                if (!ready) {
+                    // 준비 중이면 모아 두었다가 준비가 끝난 뒤 반영 (준비 실패 후에는 버림 - LIKE 검색 사용)
+                    if (pending != null) {
+                        pending.add(event);
+                    }
+                    return;
+                }
+            }
+        }
+        apply(event);
+    }
+
+    private void apply(PostChangedEvent event) {
+        if (event.deleted()) {
+            index.remove(event.id());
+        } else {
+            index.put(event.id(), event.title(), event.content());
+        }
+    }
+
+    /**
+     * 변경된 내용이 있으면 세그먼트 파일로 저장 (기본 5분마다)
+     * 준비 스레드/스케줄러/종료 시에 호출될 수 있으므로 한 번에 하나만 (같은 임시 파일을 함께 쓰지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${search.index.flush-interval-ms:300000}")
+    public synchronized void flush() {
+        if (!ready || !index.isDirty()) {
+            return;
+        }
+        try {
+            index.writeTo(segmentFile, System.currentTimeMillis());
+        } catch (IOException e) {
+            System.err.println("게시글 검색 색인 저장 실패: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    @Override
+    public List<Long> findIdsBefore(String keyword, long cursor, int limit) {
+        if (!ready) {
+            return postRepository.searchIdsBefore(keyword, cursor, Limit.of(limit));
+        }
+        return index.seek(keyword, cursor, limit, true);
+    }
+
+    @Override
+    public List<Long> findIdsAfter(String keyword, long cursor, int limit) {
+        if (!ready) {
+            return postRepository.searchIdsAfter(keyword, cursor, Limit.of(limit));
+        }
+        return index.seek(keyword, cursor, limit, false);
+    }
+
+    @Override
+    public long count(String keyword) {
+        if (!ready) {
+            return postRepository.countByKeyword(keyword);
+        }
+        return index.count(keyword);
+    }
+}
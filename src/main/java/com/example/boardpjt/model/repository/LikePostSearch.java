@@ -0,0 +1,35 @@
+package com.example.boardpjt.model.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 - LIKE 구현 (search.backend: like, 기본값)
+ * 별도 색인 없이 동작하지만 검색할 때마다 제목/내용을 스캔 (커서부터 필요한 개수를 찾으면 멈춤)
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.backend", havingValue = "like", matchIfMissing = true)
+public class LikePostSearch implements PostSearch {
+
+    private final PostRepository postRepository;
+
+    @Override
+    public List<Long> findIdsBefore(String keyword, long cursor, int limit) {
+        return postRepository.searchIdsBefore(keyword, cursor, Limit.of(limit));
+    }
+
+    @Override
+    public List<Long> findIdsAfter(String keyword, long cursor, int limit) {
+        return postRepository.searchIdsAfter(keyword, cursor, Limit.of(limit));
+    }
+
+    @Override
+    public long count(String keyword) {
+        return postRepository.countByKeyword(keyword);
+    }
+}
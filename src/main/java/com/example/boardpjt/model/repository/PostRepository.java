@@ -1,9 +1,19 @@
 package com.example.boardpjt.model.repository;
 
+import com.example.boardpjt.model.dto.PostDTO;
 import com.example.boardpjt.model.entity.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
     // 오름차순
@@ -13,4 +23,109 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findByTitleContainingOrContentContainingOrderByIdDesc(
             String title, String content, Pageable pageable);
     // Desc -> PK (Long id)
+
+    // 상세 화면용 스냅샷 (작성자 join, 엔티티/팔로워 컬렉션 로딩 없음)
+    @Query("select new com.example.boardpjt.model.dto.PostDTO$Detail(p.id, p.title, p.content, a.id, a.username, p.createdAt, p.updatedAt)"
+            + " from Post p join p.author a where p.id = :id")
+    Optional<PostDTO.Detail> findDetailById(@Param("id") Long id);
+
+    // === 권한 확인 / 삭제 (엔티티를 읽지 않음 -> content TEXT 컬럼 조회 없음) ===
+    // 작성자 username만 조회 (게시글이 없으면 empty)
+    @Query("select a.username from Post p join p.author a where p.id = :id")
+    Optional<String> findAuthorUsernameById(@Param("id") Long id);
+
+    // 작성자 본인일 때만 DELETE 한 번 (deleteById는 엔티티를 먼저 SELECT 함, 권한 확인 SELECT도 없음)
+    // DELETE FROM post WHERE id = ? AND user_account_id = ?
+    @Modifying
+    @Query("delete from Post p where p.id = :id and p.author.id = :authorId")
+    int deleteOwned(@Param("id") Long id, @Param("authorId") Long authorId);
+
+    // === 커서(keyset) 페이지용 id 조회 ===
+    // OFFSET 없이 PK 범위 조건 + LIMIT -> 몇 번째 페이지든 인덱스에서 필요한 개수만 읽음
+    // 커서보다 작은 id (다음 페이지 방향, 최신순)
+    @Query("select p.id from Post p where p.id < :cursor order by p.id desc")
+    List<Long> findIdsBefore(@Param("cursor") long cursor, Limit limit);
+
+    // 커서보다 큰 id (이전 페이지 방향, 커서에 가까운 순)
+    @Query("select p.id from Post p where p.id > :cursor order by p.id asc")
+    List<Long> findIdsAfter(@Param("cursor") long cursor, Limit limit);
+
+    // 목록 화면용 프로젝션 (작성자 join, content 컬럼은 읽지 않음) - 검색어가 없을 때 한 번의 SELECT로 한 페이지
+    @Query("select new com.example.boardpjt.model.dto.PostDTO$ListItem(p.id, p.title, p.snippet, a.username, p.createdAt, p.views)"
+            + " from Post p join p.author a where p.id < :cursor order by p.id desc")
+    List<PostDTO.ListItem> findListItemsBefore(@Param("cursor") long cursor, Limit limit);
+
+    // 검색 결과 id -> 목록 화면용 프로젝션
+    @Query("select new com.example.boardpjt.model.dto.PostDTO$ListItem(p.id, p.title, p.snippet, a.username, p.createdAt, p.views)"
+            + " from Post p join p.author a where p.id in :ids")
+    List<PostDTO.ListItem> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 제목/내용 LIKE 검색 + 커서
+    @Query("select p.id from Post p"
+            + " where (p.title like concat('%', :keyword, '%') or p.content like concat('%', :keyword, '%'))"
+            + " and p.id < :cursor order by p.id desc")
+    List<Long> searchIdsBefore(@Param("keyword") String keyword, @Param("cursor") long cursor, Limit limit);
+
+    @Query("select p.id from Post p"
+            + " where (p.title like concat('%', :keyword, '%') or p.content like concat('%', :keyword, '%'))"
+            + " and p.id > :cursor order by p.id asc")
+    List<Long> searchIdsAfter(@Param("keyword") String keyword, @Param("cursor") long cursor, Limit limit);
+
+    // 제목/내용 LIKE 검색 결과 개수
+    @Query("select count(p) from Post p"
+            + " where p.title like concat('%', :keyword, '%') or p.content like concat('%', :keyword, '%')")
+    long countByKeyword(@Param("keyword") String keyword);
+
+    // === 검색 색인(IndexedPostSearch) 재구성용 ===
+    // id 순서대로 나눠서 읽기 (전체 재색인)
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // 마지막 저장 이후 생성/수정된 게시글
+    List<Post> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
+    // 현재 존재하는 게시글 id (삭제된 글 정리)
+    @Query("select p.id from Post p")
+    List<Long> findAllIds();
+
+    // === FULLTEXT 검색(FulltextPostSearch)용 - MySQL 전용 native query ===
+    // db/post_fulltext.sql의 ngram FULLTEXT 색인 사용 (query: boolean mode 검색식)
+    @Query(value = "SELECT id FROM post WHERE MATCH(title, content) AGAINST (:query IN BOOLEAN MODE)"
+            + " AND id < :cursor ORDER BY id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<Long> searchFulltextIdsBefore(@Param("query") String query, @Param("cursor") long cursor, @Param("limit") int limit);
+
+    @Query(value = "SELECT id FROM post WHERE MATCH(title, content) AGAINST (:query IN BOOLEAN MODE)"
+            + " AND id > :cursor ORDER BY id ASC LIMIT :limit",
+            nativeQuery = true)
+    List<Long> searchFulltextIdsAfter(@Param("query") String query, @Param("cursor") long cursor, @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM post WHERE MATCH(title, content) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    long countFulltext(@Param("query") String query);
+
+    // 관련도순 첫 페이지 (같은 점수면 최신순)
+    @Query(value = "SELECT id FROM post WHERE MATCH(title, content) AGAINST (:query IN BOOLEAN MODE)"
+            + " ORDER BY MATCH(title, content) AGAINST (:query IN BOOLEAN MODE) DESC, id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<Long> searchFulltextIdsByRelevance(@Param("query") String query, @Param("limit") int limit);
+
+    // 관련도순 + 커서: (점수, id) 순서에서 커서 게시글 다음 -> 커서 게시글의 점수를 다시 계산해서 비교
+    @Query(value = "SELECT p.id FROM post p"
+            + " JOIN (SELECT MATCH(title, content) AGAINST (:query IN BOOLEAN MODE) AS score FROM post WHERE id = :cursor) c"
+            + " WHERE MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE)"
+            + " AND (MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE) < c.score"
+            + " OR (MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE) = c.score AND p.id < :cursor))"
+            + " ORDER BY MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE) DESC, p.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<Long> searchFulltextIdsByRelevanceBefore(@Param("query") String query, @Param("cursor") long cursor, @Param("limit") int limit);
+
+    // 관련도순 + 커서: 커서 게시글 앞 (커서에 가까운 순)
+    @Query(value = "SELECT p.id FROM post p"
+            + " JOIN (SELECT MATCH(title, content) AGAINST (:query IN BOOLEAN MODE) AS score FROM post WHERE id = :cursor) c"
+            + " WHERE MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE)"
+            + " AND (MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE) > c.score"
+            + " OR (MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE) = c.score AND p.id > :cursor))"
+            + " ORDER BY MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE) ASC, p.id ASC LIMIT :limit",
+            nativeQuery = true)
+    List<Long> searchFulltextIdsByRelevanceAfter(@Param("query") String query, @Param("cursor") long cursor, @Param("limit") int limit);
 }
@@ -0,0 +1,35 @@
+package com.example.boardpjt.model.repository;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 추상화
+ * search.backend 설정으로 구현체 선택
+ * - like (기본값): LikePostSearch - 제목/내용 LIKE 검색 (테이블 전체 스캔)
+ * - index: IndexedPostSearch - 서버 메모리의 역색인 (세그먼트 파일로 저장)
+ * - fulltext: FulltextPostSearch - MySQL FULLTEXT(ngram) 색인 (search.order로 관련도순 선택 가능)
+ * 페이지는 OFFSET이 아닌 커서(직전 페이지의 마지막 게시글 id) 기준으로 이어서 조회 (keyset)
+ */
+public interface PostSearch {
+
+    /**
+     * 정렬 순서상 커서 다음에 오는 게시글 id (다음 페이지 방향)
+     * 기본 정렬은 최신순이므로 커서보다 작은 id를 큰 순서로 반환
+     *
+     * @param keyword 검색어 (비어 있지 않음)
+     * @param cursor 직전 페이지의 마지막 게시글 id (첫 페이지면 Long.MAX_VALUE)
+     * @param limit 최대 개수
+     */
+    List<Long> findIdsBefore(String keyword, long cursor, int limit);
+
+    /**
+     * 정렬 순서상 커서 앞에 오는 게시글 id를 커서에 가까운 것부터 (이전 페이지 링크 계산용)
+     * 기본 정렬은 최신순이므로 커서보다 큰 id를 작은 순서로 반환
+     */
+    List<Long> findIdsAfter(String keyword, long cursor, int limit);
+
+    /**
+     * 검색어가 포함된 게시글의 정확한 개수 (PostCountService가 캐시해서 사용)
+     */
+    long count(String keyword);
+}
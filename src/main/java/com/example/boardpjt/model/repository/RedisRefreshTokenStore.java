@@ -0,0 +1,110 @@
+package com.example.boardpjt.model.repository;
+
+import com.example.boardpjt.model.entity.RefreshToken;
+import com.example.boardpjt.util.ClusterEventBus;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh Token 저장소 - Redis 구현 (Redis + 로컬 near-cache)
+ * - Redis: "rt:{username}" 키에 토큰 문자열만 저장 (해시/_class/인덱스 셋 없이 SET 1회)
+ * - 로컬: 최근 확인한 토큰을 메모리에 보관해서 재발급 시 Redis 왕복을 생략
+ * - 무효화: 저장/삭제 시 다른 노드에 pub/sub으로 알려서 각 노드의 로컬 캐시에서 제거
+ */
+@Repository
+@ConditionalOnProperty(name = "auth.refresh-store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "rt:";
+    private static final String INVALIDATE_CHANNEL = "refresh-token:invalidate";
+
+    // Redis 보관 기간 (쿠키 유효기간과 동일하게 7일)
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private record Entry(String token, long expiresAt) {
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ClusterEventBus clusterEventBus;
+
+    // 로컬 캐시 유지 시간 (pub/sub 메시지를 놓쳤을 때 오래된 값이 남는 시간의 상한)
+    private final long nearCacheTtlMillis;
+    private final int nearCacheMaxSize;
+
+    // username -> 로컬에 보관 중인 토큰
+    private final ConcurrentHashMap<String, Entry> nearCache = new ConcurrentHashMap<>();
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate,
+                                  ClusterEventBus clusterEventBus,
+                                  @Value("${auth.refresh-store.near-cache-ttl-ms:60000}") long nearCacheTtlMillis,
+                                  @Value("${auth.refresh-store.near-cache-max-size:10000}") int nearCacheMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.clusterEventBus = clusterEventBus;
+        this.nearCacheTtlMillis = nearCacheTtlMillis;
+        this.nearCacheMaxSize = nearCacheMaxSize;
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        // 다른 노드에서 로그인/로그아웃하면 해당 사용자의 로컬 캐시 제거
+        clusterEventBus.subscribe(INVALIDATE_CHANNEL, nearCache::remove);
+    }
+
+    /**
+     * Refresh Token 저장 (로그인 시), 다른 노드의 로컬 캐시는 무효화
+     */
+    @Override
+    public void save(RefreshToken refreshToken) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + refreshToken.getUsername(), refreshToken.getToken(), TTL);
+        cacheLocally(refreshToken.getUsername(), refreshToken.getToken());
+        clusterEventBus.publish(INVALIDATE_CHANNEL, refreshToken.getUsername());
+    }
+
+    /**
+     * 전달된 Refresh Token이 저장된 토큰과 일치하는지 확인
+     * 로컬 캐시와 일치하면 Redis를 조회하지 않음, 불일치/미보유 시에만 Redis 조회
+     * (다른 노드에서 재로그인한 경우 로컬 값이 오래되었을 수 있으므로 불일치는 Redis로 재확인)
+     */
+    @Override
+    public boolean matches(String username, String token) {
+        Entry entry = nearCache.get(username);
+        if (entry != null && entry.expiresAt() > System.currentTimeMillis() && entry.token().equals(token)) {
+            return true;
+        }
+        String stored = redisTemplate.opsForValue().get(KEY_PREFIX + username);
+        if (stored == null) {
+            nearCache.remove(username);
+            return false;
+        }
+        cacheLocally(username, stored);
+        return stored.equals(token);
+    }
+
+    /**
+     * Refresh Token 삭제 (로그아웃 시), 다른 노드의 로컬 캐시도 무효화
+     */
+    @Override
+    public void deleteById(String username) {
+        redisTemplate.delete(KEY_PREFIX + username);
+        nearCache.remove(username);
+        clusterEventBus.publish(INVALIDATE_CHANNEL, username);
+    }
+
+    private void cacheLocally(String username, String token) {
+        if (nearCache.size() >= nearCacheMaxSize) {
+            // 가득 차면 만료된 항목 정리, 그래도 가득이면 이번 값은 캐시하지 않음
+            long now = System.currentTimeMillis();
+            nearCache.values().removeIf(e -> e.expiresAt() <= now);
+            if (nearCache.size() >= nearCacheMaxSize) {
+                return;
+            }
+        }
+        nearCache.put(username, new Entry(token, System.currentTimeMillis() + nearCacheTtlMillis));
+    }
+}
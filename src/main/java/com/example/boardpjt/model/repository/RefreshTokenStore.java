@@ -0,0 +1,29 @@
+package com.example.boardpjt.model.repository;
+
+import com.example.boardpjt.model.entity.RefreshToken;
+
+/**
+ * Refresh Token 저장소 추상화
+ * auth.refresh-store.type 설정으로 구현체 선택
+ * - redis (기본값): RedisRefreshTokenStore - 여러 서버가 Redis를 공유
+ * - memory: InMemoryRefreshTokenStore - 단일 서버 / 부하 테스트용 (Redis 불필요)
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Refresh Token 저장 (로그인 시, 기존 토큰은 덮어씀)
+     */
+    void save(RefreshToken refreshToken);
+
+    /**
+     * 전달된 Refresh Token이 해당 사용자의 저장된 토큰과 일치하는지 확인
+     *
+     * @return boolean 저장된 토큰이 있고 일치하면 true
+     */
+    boolean matches(String username, String token);
+
+    /**
+     * Refresh Token 삭제 (로그아웃 시)
+     */
+    void deleteById(String username);
+}
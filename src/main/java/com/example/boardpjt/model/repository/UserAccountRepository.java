@@ -2,6 +2,9 @@ package com.example.boardpjt.model.repository;
 
 import com.example.boardpjt.model.entity.UserAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -34,6 +37,34 @@ public interface UserAccountRepository extends JpaRepository<UserAccount, Long>
      */
     Optional<UserAccount> findByUsername(String username);
 
+    /**
+     * username 사용자가 targetId 사용자를 팔로우 중인지 (user_follow 한 행만 확인, 팔로워 컬렉션 로딩 없음)
+     */
+    @Query("select count(u) > 0 from UserAccount u join u.following f"
+            + " where u.username = :username and f.id = :targetId")
+    boolean existsFollowing(@Param("username") String username, @Param("targetId") Long targetId);
+
+    // 팔로잉/팔로워 수 (user_follow COUNT, 컬렉션 로딩 없음)
+    @Query("select count(f) from UserAccount u join u.following f where u.id = :id")
+    long countFollowing(@Param("id") Long id);
+
+    @Query("select count(f) from UserAccount u join u.followers f where u.id = :id")
+    long countFollowers(@Param("id") Long id);
+
+    // 팔로우 추가/취소 (user_follow 한 행만, 사용자 조회/팔로우 컬렉션 로딩 없음)
+    // 추가는 이미 팔로우 중이면 0 반환, 대상 사용자가 없으면 외래 키 위반 (IGNORE처럼 다른 오류를 경고로 바꾸지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO user_follow (follower_id, following_id)"
+            + " SELECT :followerId, :targetId FROM DUAL WHERE NOT EXISTS"
+            + " (SELECT 1 FROM user_follow WHERE follower_id = :followerId AND following_id = :targetId)",
+            nativeQuery = true)
+    int insertFollow(@Param("followerId") Long followerId, @Param("targetId") Long targetId);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_follow WHERE follower_id = :followerId AND following_id = :targetId",
+            nativeQuery = true)
+    int deleteFollow(@Param("followerId") Long followerId, @Param("targetId") Long targetId);
+
     // === Spring Data JPA Query Method 작동 원리 ===
     // 메서드명 패턴: find + By + 엔티티필드명
     // - "findBy": 조회 작업임을 나타냄
@@ -0,0 +1,26 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.model.dto.CommentDTO;
+
+/**
+ * 댓글이 작성/삭제되었을 때 발행하는 이벤트
+ * 게시글 상세 화면의 실시간 갱신(SSE) 등에서 받아서 처리 (트랜잭션 커밋 후 처리)
+ *
+ * @param postId 댓글이 달린 게시글 id
+ * @param commentId 댓글 id
+ * @param comment 작성된 댓글 응답 (삭제면 null)
+ */
+public record CommentChangedEvent(Long postId, Long commentId, CommentDTO.Response comment) {
+
+    public static CommentChangedEvent added(CommentDTO.Response comment) {
+        return new CommentChangedEvent(comment.postId(), comment.id(), comment);
+    }
+
+    public static CommentChangedEvent deleted(Long postId, Long commentId) {
+        return new CommentChangedEvent(postId, commentId, null);
+    }
+
+    public boolean deleted() {
+        return comment == null;
+    }
+}
@@ -2,54 +2,138 @@ package com.example.boardpjt.service;
 
 import com.example.boardpjt.model.dto.CommentDTO;
 import com.example.boardpjt.model.entity.Comment;
+import com.example.boardpjt.model.entity.CommentTombstone;
 import com.example.boardpjt.model.entity.Post;
 import com.example.boardpjt.model.entity.UserAccount;
 import com.example.boardpjt.model.repository.CommentRepository;
+import com.example.boardpjt.model.repository.CommentTombstoneRepository;
 import com.example.boardpjt.model.repository.PostRepository;
 import com.example.boardpjt.model.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service // 스캔
 @RequiredArgsConstructor // 생성자 자동 생성 (의존성 주입)
 public class CommentService {
+    // 한 번에 내려주는 최대 댓글 수
+    private static final int MAX_LIMIT = 500;
+
     // 의존성 주입을 3개나!
     private final CommentRepository commentRepository;
     private final UserAccountRepository userAccountRepository;
     private final PostRepository postRepository;
+    // 삭제된 댓글 기록 (변경분 조회)
+    private final CommentTombstoneRepository commentTombstoneRepository;
+    // 댓글 변경 이벤트 (상세 화면 실시간 갱신, 커밋 후 처리)
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 삭제 기록 보관 기간 (이보다 오래 열어 둔 화면은 새로고침 필요)
+    @Value("${comment.tombstone.retention-ms:604800000}")
+    private long tombstoneRetentionMillis;
 
+    // 응답은 같은 트랜잭션 안에서 만든 CommentDTO.Response (엔티티/프록시를 직렬화하지 않음 - 작성자의 팔로우 목록 등을 읽지 않음)
+    // 작성자/게시글은 id로 참조만 -> 사용자/게시글 SELECT 없이 INSERT 한 번
     @Transactional
-    public Comment addComment(CommentDTO.Request dto) {
-        // Controller -> authentication 인증 username. dto username?
-        // Service -> username? 존재하는 유저인한건지... postId 존재하는 게시물인지?
-        UserAccount user = userAccountRepository.findByUsername(dto.username())
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
-        Post post = postRepository.findById(dto.postId())
-                .orElseThrow(() -> new IllegalArgumentException("게시물 없음"));
+    public CommentDTO.Response addComment(Long userId, CommentDTO.Request dto) {
+        // Controller -> authentication 인증 username/id. dto username은 컨트롤러에서 확인
+        // 게시글이 없으면 INSERT의 외래 키 위반으로 확인
+        UserAccount user = userAccountRepository.getReferenceById(userId);
+        Post post = postRepository.getReferenceById(dto.postId());
         Comment comment = new Comment();
         comment.setAuthor(user);
         comment.setPost(post);
         comment.setContent(dto.content());
         // id 자동생성
-        return commentRepository.save(comment); // RESTful.
+        Comment saved;
+        try {
+            saved = commentRepository.save(comment); // RESTful.
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("게시물 없음");
+        }
+        // 프록시를 초기화하지 않도록 요청 값 사용 (작성자 이름은 컨트롤러에서 인증 정보와 일치 확인)
+        // 인기 게시글 점수는 이벤트를 받은 TrendingService가 커밋 후 반영
+        CommentDTO.Response response = new CommentDTO.Response(
+                saved.getId(), dto.postId(), saved.getContent(), dto.username(), saved.getCreatedAt());
+        eventPublisher.publishEvent(CommentChangedEvent.added(response));
+        return response;
     }
 
+    // 댓글 목록 한 페이지 (after 커서 이후 limit개)
     @Transactional(readOnly = true)
-    public List<Comment> findByPostId(Long postId) {
-        return commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
+    public CommentDTO.Page findPage(Long postId, long after, int limit) {
+        // 목록보다 먼저 읽어야 읽는 도중 삭제된 댓글도 다음 변경분 조회에 포함됨
+        long tombstoneCursor = commentTombstoneRepository.findLatestId(postId);
+        int size = clamp(limit);
+        List<CommentDTO.Response> rows = commentRepository.findResponsesAfter(postId, after, Limit.of(size + 1));
+        boolean hasMore = rows.size() > size;
+        List<CommentDTO.Response> comments = hasMore ? rows.subList(0, size) : rows;
+        return new CommentDTO.Page(comments, hasMore, lastIdOf(comments, after), tombstoneCursor);
     }
 
-    @Transactional
-    public void deleteById(Long id) {
-        commentRepository.deleteById(id);
+    // 댓글 변경분 (since 이후 추가 + deletedAfter 이후 삭제)
+    @Transactional(readOnly = true)
+    public CommentDTO.Delta findDelta(Long postId, long since, long deletedAfter, int limit) {
+        int size = clamp(limit);
+        List<CommentTombstone> tombstones = commentTombstoneRepository.findAfter(postId, deletedAfter, Limit.of(size + 1));
+        List<CommentDTO.Response> rows = commentRepository.findResponsesAfter(postId, since, Limit.of(size + 1));
+        boolean hasMore = tombstones.size() > size || rows.size() > size;
+        if (tombstones.size() > size) {
+            tombstones = tombstones.subList(0, size);
+        }
+        List<CommentDTO.Response> added = rows.size() > size ? rows.subList(0, size) : rows;
+        long tombstoneCursor = tombstones.isEmpty() ? deletedAfter : tombstones.get(tombstones.size() - 1).getId();
+        return new CommentDTO.Delta(added,
+                tombstones.stream().map(CommentTombstone::getCommentId).toList(),
+                hasMore, lastIdOf(added, since), tombstoneCursor);
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private static Long lastIdOf(List<CommentDTO.Response> comments, long fallback) {
+        return comments.isEmpty() ? fallback : comments.get(comments.size() - 1).id();
     }
 
+    // 댓글 목록 버전 (목록 API의 ETag)
     @Transactional(readOnly = true)
-    public Comment findById(Long id) {
-        return commentRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("댓글 없음"));
+    public CommentDTO.Version findVersion(Long postId) {
+        return commentRepository.findVersionByPostId(postId);
+    }
+
+    @Transactional
+    public void deleteById(Long id, Long userId) {
+        Long postId = commentRepository.findPostIdById(id).orElse(null);
+        if (postId == null) {
+            return; // 이미 삭제됨
+        }
+        // 엔티티를 읽지 않고 작성자 본인일 때만 DELETE (권한 확인 SELECT 없음)
+        if (commentRepository.deleteOwned(id, userId) == 0) {
+            throw new SecurityException("삭제 권한 없음");
+        }
+        // 변경분 조회에서 다른 화면들도 지울 수 있도록 삭제 기록
+        CommentTombstone tombstone = new CommentTombstone();
+        tombstone.setCommentId(id);
+        tombstone.setPostId(postId);
+        commentTombstoneRepository.save(tombstone);
+        eventPublisher.publishEvent(CommentChangedEvent.deleted(postId, id));
+    }
+
+    // 보관 기간이 지난 삭제 기록 정리 (기본 1시간마다)
+    @Scheduled(fixedDelayString = "${comment.tombstone.prune-interval-ms:3600000}")
+    @Transactional
+    public void pruneTombstones() {
+        commentTombstoneRepository.deleteOlderThan(
+                LocalDateTime.now().minus(Duration.ofMillis(tombstoneRetentionMillis)));
     }
 }
@@ -1,26 +1,60 @@
 package com.example.boardpjt.service;
 
+import com.example.boardpjt.model.dto.UserAccountDTO;
 import com.example.boardpjt.model.entity.UserAccount;
 import com.example.boardpjt.model.repository.UserAccountRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.boardpjt.util.BoundedCache;
+import com.example.boardpjt.util.ClusterEventBus;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Spring Security에서 사용자 인증 시 사용자 정보를 로드하는 커스텀 서비스
  * UserDetailsService 인터페이스를 구현하여 데이터베이스에서 사용자 정보를 조회하고
  * Spring Security가 요구하는 UserDetails 객체로 변환하여 반환
+ * 조회 결과는 불변 스냅샷(id, 권한, 비밀번호 해시)으로 캐시하고,
+ * 회원가입/탈퇴/권한 변경 이벤트(UserAccountChangedEvent)가 오면 해당 사용자만 제거
  */
 @Service // Spring의 서비스 빈으로 등록
-@RequiredArgsConstructor // final 필드에 대한 생성자 자동 생성 (의존성 주입용)
 public class CustomUserDetailsService implements UserDetailsService {
 
+    // 다른 노드에 캐시 제거를 알리는 채널
+    private static final String INVALIDATE_CHANNEL = "user:invalidate";
+
     // 사용자 계정 정보를 데이터베이스에서 조회하기 위한 Repository
     private final UserAccountRepository userAccountRepository;
 
+    private final ClusterEventBus clusterEventBus;
+
+    // username -> 사용자 스냅샷 캐시
+    private final BoundedCache<String, UserAccountDTO.Snapshot> cache;
+
+    // 캐시 유지 시간 (이벤트를 놓쳤을 때 오래된 값이 남는 시간의 상한)
+    private final long cacheTtlMillis;
+
+    public CustomUserDetailsService(UserAccountRepository userAccountRepository,
+                                    ClusterEventBus clusterEventBus,
+                                    @Value("${auth.user-cache.max-size:10000}") int cacheMaxSize,
+                                    @Value("${auth.user-cache.ttl-ms:600000}") long cacheTtlMillis) {
+        this.userAccountRepository = userAccountRepository;
+        this.clusterEventBus = clusterEventBus;
+        this.cache = new BoundedCache<>(cacheMaxSize);
+        this.cacheTtlMillis = cacheTtlMillis;
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        // 다른 노드에서 발생한 계정 변경 -> 이 노드의 캐시에서도 제거
+        clusterEventBus.subscribe(INVALIDATE_CHANNEL, cache::invalidate);
+    }
+
     /**
      * 사용자명(username)을 받아 해당 사용자의 상세 정보를 로드하는 메서드
      * Spring Security의 인증 과정에서 자동으로 호출됨
@@ -33,21 +67,19 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-        // === 1단계: 데이터베이스에서 사용자 조회 ===
-        // Repository를 통해 사용자명으로 UserAccount 엔티티 조회
-        UserAccount userAccount = userAccountRepository.findByUsername(username)
-                // Optional이 비어있는 경우 (사용자가 존재하지 않는 경우) 예외 발생
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        // === 1단계: 캐시 또는 데이터베이스에서 사용자 조회 ===
+        UserAccountDTO.Snapshot snapshot = findSnapshot(username);
 
         // === 2단계: UserAccount → UserDetails 변환 ===
-        // 조회된 UserAccount 엔티티를 Spring Security의 UserDetails 객체로 변환
+        // 조회된 스냅샷을 Spring Security의 UserDetails 객체로 변환
+        // (인증 후 비밀번호가 지워지므로 UserDetails 자체가 아닌 스냅샷을 캐시하고 매번 새로 생성)
         // User.builder()는 Spring Security에서 제공하는 UserDetails 구현체 생성 빌더
-        return User.builder()
+        UserDetails user = User.builder()
                 // 사용자명 설정
-                .username(userAccount.getUsername())
+                .username(snapshot.username())
 
                 // 암호화된 비밀번호 설정 (이미 PasswordEncoder로 암호화된 상태)
-                .password(userAccount.getPassword())
+                .password(snapshot.password())
 
                 // === 권한(Role) 설정 - 중요한 변환 과정 ===
                 // 데이터베이스에 저장된 role: "ROLE_USER", "ROLE_ADMIN" 등
@@ -58,7 +90,7 @@ public class CustomUserDetailsService implements UserDetailsService {
                 // DB 저장값: "ROLE_USER"
                 // replace 후: "USER"
                 // User.roles("USER") → 최종 권한: "ROLE_USER"
-                .roles(userAccount.getRole().replace("ROLE_", ""))
+                .roles(snapshot.role().replace("ROLE_", ""))
 
                 // === 추가 설정 가능한 옵션들 ===
                 // .accountExpired(false)        // 계정 만료 여부
@@ -69,6 +101,9 @@ public class CustomUserDetailsService implements UserDetailsService {
                 // UserDetails 객체 생성 완료
                 .build();
 
+        // 사용자 id를 함께 담아서 반환 (쓰기 경로에서 username으로 다시 조회하지 않음)
+        return new UserPrincipal(snapshot.id(), user.getUsername(), user.getPassword(), user.getAuthorities());
+
         // === UserDetailsService의 역할 ===
         // 1. 인증 과정에서 사용자 정보 제공
         // 2. JWT 필터에서 토큰 검증 후 사용자 정보 로드
@@ -80,4 +115,55 @@ public class CustomUserDetailsService implements UserDetailsService {
         // 2. JWT 필터에서 토큰을 검증할 때 (JwtFilter에서 호출)
         // 3. @PreAuthorize 등 권한 체크 시 필요한 경우
     }
-}
\ No newline at end of file
+
+    /**
+     * 사용자 스냅샷 조회 (캐시 -> 없으면 DB)
+     *
+     * @throws UsernameNotFoundException 해당 사용자명으로 사용자를 찾을 수 없을 때 발생
+     */
+    public UserAccountDTO.Snapshot findSnapshot(String username) throws UsernameNotFoundException {
+        UserAccountDTO.Snapshot cached = cache.get(username);
+        if (cached != null) {
+            return cached;
+        }
+        // Repository를 통해 사용자명으로 UserAccount 엔티티 조회
+        UserAccount userAccount = userAccountRepository.findByUsername(username)
+                // Optional이 비어있는 경우 (사용자가 존재하지 않는 경우) 예외 발생
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        UserAccountDTO.Snapshot snapshot = new UserAccountDTO.Snapshot(
+                userAccount.getId(),
+                userAccount.getUsername(),
+                userAccount.getPassword(),
+                userAccount.getRole());
+        cache.put(username, snapshot, System.currentTimeMillis() + cacheTtlMillis);
+        return snapshot;
+    }
+
+    /**
+     * 현재 인증된 사용자의 id
+     * 보통은 인증 객체(UserPrincipal)에 이미 있음, uid 클레임이 없는 이전 토큰이면 스냅샷 캐시에서 찾음
+     *
+     * @throws UsernameNotFoundException 해당 사용자명으로 사용자를 찾을 수 없을 때 발생
+     */
+    public Long findUserId(Authentication authentication) throws UsernameNotFoundException {
+        Long id = UserPrincipal.idOf(authentication);
+        return id != null ? id : findSnapshot(authentication.getName()).id();
+    }
+
+    /**
+     * 계정 변경 이벤트 수신 -> 캐시 제거 + 다른 노드에 전파
+     * 트랜잭션 커밋 후에 제거해야 커밋 전의 옛 값이 다시 캐시되지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        cache.invalidate(event.username());
+        clusterEventBus.publish(INVALIDATE_CHANNEL, event.username());
+    }
+
+    /**
+     * 사용자 캐시 통계 (관리자 페이지)
+     */
+    public BoundedCache.Stats getCacheStats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.boardpjt.service;
+
+/**
+ * 팔로우/언팔로우가 일어났을 때 발행하는 이벤트
+ * 두 사용자의 팔로잉/팔로워 수가 바뀜 (트랜잭션 커밋 후 처리)
+ *
+ * @param followerId 팔로우를 건(해제한) 사용자 id
+ * @param targetId 팔로우 대상 사용자 id
+ */
+public record FollowChangedEvent(Long followerId, Long targetId) {
+}
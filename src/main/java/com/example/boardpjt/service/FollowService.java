@@ -1,8 +1,9 @@
 package com.example.boardpjt.service;
 
-import com.example.boardpjt.model.entity.UserAccount;
 import com.example.boardpjt.model.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,41 +11,58 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class FollowService {
     private final UserAccountRepository userAccountRepository;
+    // 인기 게시글 점수 (작성자 팔로우)
+    private final TrendingService trendingService;
+    // 팔로우 변경 이벤트 (상세 화면 실시간 갱신, 커밋 후 처리)
+    private final ApplicationEventPublisher eventPublisher;
     // UserAccount -> follow, unfollow, following, followers ...
 
     // 4개
+    // 팔로우/언팔로우는 user_follow 한 행만 INSERT/DELETE (사용자 SELECT, 팔로우 컬렉션 로딩 없음)
     @Transactional
-    public void followUser(String followerUsername, Long targetId) {
-        // followerUsername -> Authentication에 있는 username.
-        UserAccount follower = userAccountRepository
-                .findByUsername(followerUsername)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
-        UserAccount target = userAccountRepository
-                .findById(targetId)
-                .orElseThrow(() -> new IllegalArgumentException("대상 없음"));
-        if (follower.equals(target)) {
+    public void followUser(Long followerId, Long targetId) {
+        // followerId -> Authentication에 있는 사용자 id.
+        if (followerId.equals(targetId)) {
             throw new IllegalArgumentException("자기 자신을 팔로우할 수 없습니다.");
         }
-        follower.follow(target);
+        // 대상 사용자가 없으면 INSERT의 외래 키 위반으로 확인
+        int inserted;
+        try {
+            inserted = userAccountRepository.insertFollow(followerId, targetId);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("사용자 없음");
+        }
+        // 이미 팔로우 중이면 변경 없음 (점수/이벤트도 없음)
+        if (inserted == 0) {
+            return;
+        }
+        trendingService.recordFollow(targetId);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId, targetId));
     }
 
     @Transactional
-    public void unfollowUser(String followerUsername, Long targetId) {
-        // followerUsername -> Authentication에 있는 username.
-        UserAccount follower = userAccountRepository
-                .findByUsername(followerUsername)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
-        UserAccount target = userAccountRepository
-                .findById(targetId)
-                .orElseThrow(() -> new IllegalArgumentException("대상 없음"));
-        follower.unfollow(target);
+    public void unfollowUser(Long followerId, Long targetId) {
+        // followerId -> Authentication에 있는 사용자 id.
+        if (userAccountRepository.deleteFollow(followerId, targetId) == 0) {
+            return; // 팔로우 중이 아님
+        }
+        eventPublisher.publishEvent(new FollowChangedEvent(followerId, targetId));
+    }
+
+    // 팔로우 여부 (게시글 상세의 팔로우/언팔로우 버튼)
+    @Transactional(readOnly = true)
+    public boolean isFollowing(String followerUsername, Long targetId) {
+        return userAccountRepository.existsFollowing(followerUsername, targetId);
     }
 
-    public int getFollowingCount(Long userId) {
-        return userAccountRepository.findById(userId).orElseThrow().getFollowingCount();
+    // 팔로잉/팔로워 수 (상세 화면을 열 때마다 호출 -> 사용자/팔로우 컬렉션을 읽지 않고 COUNT 한 번)
+    @Transactional(readOnly = true)
+    public long getFollowingCount(Long userId) {
+        return userAccountRepository.countFollowing(userId);
     }
 
-    public int getFollowerCount(Long userId) {
-        return userAccountRepository.findById(userId).orElseThrow().getFollowerCount();
+    @Transactional(readOnly = true)
+    public long getFollowerCount(Long userId) {
+        return userAccountRepository.countFollowers(userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.model.entity.Post;
+
+/**
+ * 게시글이 생성/수정/삭제되었을 때 발행하는 이벤트
+ * 검색 색인 등 게시글 내용을 따로 들고 있는 곳에서 받아서 갱신 (트랜잭션 커밋 후 처리)
+ *
+ * @param id 게시글 id
+ * @param title 제목 (삭제면 null)
+ * @param content 내용 (삭제면 null)
+ * @param deleted 삭제 여부
+ */
+public record PostChangedEvent(Long id, String title, String content, boolean deleted) {
+
+    public static PostChangedEvent saved(Post post) {
+        return new PostChangedEvent(post.getId(), post.getTitle(), post.getContent(), false);
+    }
+
+    public static PostChangedEvent deleted(Long id) {
+        return new PostChangedEvent(id, null, null, true);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.model.dto.PostDTO;
+import com.example.boardpjt.model.repository.PostRepository;
+import com.example.boardpjt.model.repository.PostSearch;
+import com.example.boardpjt.util.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 목록/검색 결과의 전체 개수 (화면 표시용)
+ * - 캐시: 검색어 -> 개수 (같은 검색어는 COUNT를 다시 실행하지 않음)
+ * - 무효화: 게시글이 생성/수정/삭제될 때마다 쓰기 세대(generation)를 올림 -> 이전 세대의 값은 사용하지 않음
+ * - 근사 모드: 기준값(기본 1000)까지만 세고 넘으면 "1000+"로 표시 (결과가 많은 검색어의 COUNT 비용 상한)
+ * 다른 서버의 쓰기는 세대에 반영되지 않으므로 캐시 유지 시간(ttl)으로 오차를 제한
+ */
+@Service
+public class PostCountService {
+
+    // 캐시 값 (계산 당시의 쓰기 세대와 함께 저장)
+    private record Entry(long generation, PostDTO.TotalCount count) {
+    }
+
+    private final PostRepository postRepository;
+    private final PostSearch postSearch;
+
+    // 0 이하면 항상 정확히 셈
+    private final int approximateThreshold;
+    private final long cacheTtlMillis;
+
+    private final BoundedCache<String, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostCountService(PostRepository postRepository,
+                            PostSearch postSearch,
+                            @Value("${search.count.approximate-threshold:1000}") int approximateThreshold,
+                            @Value("${search.count.cache-size:1000}") int cacheSize,
+                            @Value("${search.count.cache-ttl-ms:60000}") long cacheTtlMillis) {
+        this.postRepository = postRepository;
+        this.postSearch = postSearch;
+        this.approximateThreshold = approximateThreshold;
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.cache = new BoundedCache<>(cacheSize);
+    }
+
+    /**
+     * 게시글 변경(커밋 후) -> 쓰기 세대 증가 (모든 캐시 값이 무효가 됨)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 검색어에 해당하는 게시글 수 (검색어가 비어 있으면 전체 게시글 수)
+     */
+    @Transactional(readOnly = true)
+    public PostDTO.TotalCount count(String keyword) {
+        String key = normalize(keyword);
+        long current = generation.get();
+        Entry cached = cache.get(key);
+        if (cached != null && cached.generation() == current) {
+            return cached.count();
+        }
+        // 목록과 같은 검색어 그대로 셈 (목록과 개수가 다른 조건으로 실행되지 않도록)
+        PostDTO.TotalCount count = countUncached(key.isEmpty() ? "" : keyword);
+        // 계산 도중 쓰기가 있었다면 이미 이전 세대 값이므로 다음 조회에서 다시 계산됨
+        cache.put(key, new Entry(current, count), System.currentTimeMillis() + cacheTtlMillis);
+        return count;
+    }
+
+    private PostDTO.TotalCount countUncached(String keyword) {
+        if (approximateThreshold > 0) {
+            // 기준값 + 1개까지만 찾아보고 넘으면 "기준값+"
+            int found = keyword.isEmpty()
+                    ? postRepository.findIdsBefore(Long.MAX_VALUE, Limit.of(approximateThreshold + 1)).size()
+                    : postSearch.findIdsBefore(keyword, Long.MAX_VALUE, approximateThreshold + 1).size();
+            if (found > approximateThreshold) {
+                return new PostDTO.TotalCount(approximateThreshold, true);
+            }
+            return new PostDTO.TotalCount(found, false);
+        }
+        long exact = keyword.isEmpty() ? postRepository.count() : postSearch.count(keyword);
+        return new PostDTO.TotalCount(exact, false);
+    }
+
+    // 캐시 키: 빈 검색어만 ""로 합침
+    // 대소문자/공백은 합치지 않음 - LIKE '%a  b%'와 '%a b%', 대소문자를 구분하는 collation/검색 구현체에서 결과가 다름
+    static String normalize(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return "";
+        }
+        return keyword;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.model.dto.PostDTO;
+import com.example.boardpjt.model.repository.PostRepository;
+import com.example.boardpjt.util.BoundedCache;
+import com.example.boardpjt.util.ClusterEventBus;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 상세 화면용 스냅샷 캐시 (읽기가 쓰기보다 훨씬 많은 인기 게시글용)
+ * - 캐시: 게시글 id -> 불변 스냅샷 (제목, 내용, 작성자 id/이름, 작성/수정일)
+ * - 무효화: 게시글 수정/삭제 이벤트(PostChangedEvent, 커밋 후) -> 해당 게시글 제거 + 다른 노드에 전파
+ * - 동시에 들어온 같은 게시글의 캐시 미스는 하나로 합쳐서 DB 조회 1회 (single-flight)
+ */
+@Service
+public class PostDetailService {
+
+    // 다른 노드에 캐시 제거를 알리는 채널
+    private static final String INVALIDATE_CHANNEL = "post:invalidate";
+
+    private final PostRepository postRepository;
+    private final ClusterEventBus clusterEventBus;
+
+    // 게시글 id -> 상세 스냅샷
+    private final BoundedCache<Long, PostDTO.Detail> cache;
+
+    // 캐시 유지 시간 (무효화 메시지를 놓쳤을 때 오래된 값이 남는 시간의 상한)
+    private final long cacheTtlMillis;
+
+    // 게시글 id -> 진행 중인 DB 조회 (무효화되면 제거 -> 조회 결과를 캐시하지 않음, 이후 요청은 새로 조회)
+    private final ConcurrentHashMap<Long, CompletableFuture<PostDTO.Detail>> loading = new ConcurrentHashMap<>();
+
+    public PostDetailService(PostRepository postRepository,
+                             ClusterEventBus clusterEventBus,
+                             @Value("${post.detail-cache.max-size:10000}") int cacheMaxSize,
+                             @Value("${post.detail-cache.ttl-ms:600000}") long cacheTtlMillis) {
+        this.postRepository = postRepository;
+        this.clusterEventBus = clusterEventBus;
+        this.cache = new BoundedCache<>(cacheMaxSize);
+        this.cacheTtlMillis = cacheTtlMillis;
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        // 다른 노드에서 수정/삭제된 게시글 -> 이 노드의 캐시에서도 제거
+        clusterEventBus.subscribe(INVALIDATE_CHANNEL, payload -> invalidate(Long.valueOf(payload)));
+    }
+
+    /**
+     * 게시글 상세 스냅샷 (캐시 -> 없으면 DB)
+     *
+     * @throws IllegalArgumentException 게시글이 없을 때
+     */
+    public PostDTO.Detail findDetail(Long id) {
+        PostDTO.Detail cached = cache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<PostDTO.Detail> created = new CompletableFuture<>();
+        CompletableFuture<PostDTO.Detail> flight = loading.putIfAbsent(id, created);
+        if (flight != null) {
+            // 같은 게시글을 이미 조회 중이면 그 결과를 함께 사용
+            return await(flight);
+        }
+
+        // 이 요청이 대표로 조회
+        try {
+            PostDTO.Detail detail = postRepository.findDetailById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("게시물 없음"));
+            cache.put(id, detail, System.currentTimeMillis() + cacheTtlMillis);
+            // 조회 도중 이 게시글이 무효화됐으면(진행 중 조회가 제거됨) 방금 넣은 값을 다시 제거
+            // (다른 게시글의 무효화는 영향 없음)
+            if (loading.get(id) != created) {
+                cache.invalidate(id);
+            }
+            created.complete(detail);
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+        } finally {
+            loading.remove(id, created);
+        }
+        return await(created);
+    }
+
+    /**
+     * 게시글 수정/삭제(커밋 후) -> 캐시 제거 + 다른 노드에 전파
+     * 트랜잭션 커밋 후에 제거해야 커밋 전의 옛 값이 다시 캐시되지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        invalidate(event.id());
+        clusterEventBus.publish(INVALIDATE_CHANNEL, String.valueOf(event.id()));
+    }
+
+    private void invalidate(Long id) {
+        // 진행 중인 조회를 먼저 제거 -> 그 조회의 결과는 캐시에 남지 않음
+        loading.remove(id);
+        cache.invalidate(id);
+    }
+
+    private PostDTO.Detail await(CompletableFuture<PostDTO.Detail> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 게시글 상세 캐시 통계 (관리자 페이지)
+     */
+    public BoundedCache.Stats getCacheStats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.model.repository.UserAccountRepository;
+import com.example.boardpjt.util.SseHub;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * 게시글 상세 화면 실시간 갱신 (SSE)
+ * 댓글 작성/삭제, 작성자의 팔로잉/팔로워 수 변경을 커밋 후에 SseHub로 발행
+ * - 토픽 "post:{게시글 id}": comment-added, comment-deleted
+ * - 토픽 "user:{사용자 id}": follow-count
+ */
+@Service
+@RequiredArgsConstructor
+public class PostLiveEventService {
+
+    // 삭제된 댓글 id
+    private record Deleted(Long id) {
+    }
+
+    // 사용자의 팔로잉/팔로워 수
+    private record FollowCount(Long userId, long followingCount, long followerCount) {
+    }
+
+    private final SseHub sseHub;
+    private final UserAccountRepository userAccountRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 게시글 상세 화면 구독 (게시글의 댓글 + 작성자의 팔로우 수)
+     */
+    public SseEmitter subscribe(Long postId, Long authorId) {
+        return sseHub.subscribe(List.of(postTopic(postId), userTopic(authorId)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.deleted()) {
+            sseHub.publish(postTopic(event.postId()), "comment-deleted", toJson(new Deleted(event.commentId())));
+        } else {
+            sseHub.publish(postTopic(event.postId()), "comment-added", toJson(event.comment()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        // 이벤트 한 번에 COUNT 쿼리 (구독자 수와 무관)
+        publishFollowCount(event.followerId());
+        publishFollowCount(event.targetId());
+    }
+
+    private void publishFollowCount(Long userId) {
+        FollowCount count = new FollowCount(userId,
+                userAccountRepository.countFollowing(userId),
+                userAccountRepository.countFollowers(userId));
+        sseHub.publish(userTopic(userId), "follow-count", toJson(count));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String postTopic(Long postId) {
+        return "post:" + postId;
+    }
+
+    private static String userTopic(Long userId) {
+        return "user:" + userId;
+    }
+}
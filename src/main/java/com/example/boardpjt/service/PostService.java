@@ -4,33 +4,49 @@ import com.example.boardpjt.model.dto.PostDTO;
 import com.example.boardpjt.model.entity.Post;
 import com.example.boardpjt.model.entity.UserAccount;
 import com.example.boardpjt.model.repository.PostRepository;
+import com.example.boardpjt.model.repository.PostSearch;
 import com.example.boardpjt.model.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
+    // 한 페이지 게시글 수
+    private static final int PAGE_SIZE = 5;
+    // 현재 페이지 앞뒤로 보여줄 페이지 링크 수
+    private static final int LINK_WINDOW = 2;
+
     private final PostRepository postRepository;
     private final UserAccountRepository userAccountRepository;
+    // 검색 구현체 (search.backend: like / index)
+    private final PostSearch postSearch;
+    // 게시글 변경 이벤트 (검색 색인 갱신 등, 커밋 후 처리)
+    private final ApplicationEventPublisher eventPublisher;
 
     // 1. create
+    // 작성자는 인증 정보의 id로 참조만 (사용자 SELECT 없이 INSERT 한 번)
     @Transactional
-    public Post createPost(PostDTO.Request dto) {
-        UserAccount userAccount = userAccountRepository
-                .findByUsername(dto.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
+    public Post createPost(Long userId, PostDTO.Request dto) {
+        UserAccount userAccount = userAccountRepository.getReferenceById(userId);
         Post post = new Post();
         post.setAuthor(userAccount);
         post.setTitle(dto.getTitle());
         post.setContent(dto.getContent());
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.saved(saved));
+        return saved;
     }
     // 2-1. findAll
     @Transactional(readOnly = true)
@@ -38,11 +54,72 @@ public class PostService {
         return postRepository.findAll();
     }
 
-    // 2-1-2. paging & search
+    // 2-1-2. paging & search (keyset)
+    // OFFSET 대신 커서(직전 페이지의 마지막 게시글 id)부터 이어서 조회, COUNT 없음
     @Transactional(readOnly = true)
-    public Page<Post> findWithPagingAndSearch(String keyword, int page) {
-        Pageable pageable = PageRequest.of(page, 5);
-        return postRepository.findByTitleContainingOrContentContainingOrderByIdDesc(keyword, keyword, pageable);
+    public PostDTO.CursorPage findWithPagingAndSearch(String keyword, Long cursor, int page) {
+        long seek = cursor == null ? Long.MAX_VALUE : cursor;
+        // 커서가 없으면 항상 첫 페이지, 있으면 2페이지 이상
+        page = cursor == null ? 1 : Math.max(page, 2);
+
+        // 현재 페이지 + 뒤쪽 링크(LINK_WINDOW개)를 만들 만큼만 조회
+        // 검색어가 없으면 목록 프로젝션을 바로 조회 (한 페이지 = SELECT 1회, content/작성자 엔티티 로딩 없음)
+        List<PostDTO.ListItem> items = null;
+        List<Long> ahead;
+        if (StringUtils.hasText(keyword)) {
+            ahead = postSearch.findIdsBefore(keyword, seek, PAGE_SIZE * (LINK_WINDOW + 1));
+        } else {
+            items = postRepository.findListItemsBefore(seek, Limit.of(PAGE_SIZE * (LINK_WINDOW + 1)));
+            ahead = items.stream().map(PostDTO.ListItem::id).toList();
+        }
+        List<Long> pageIds = ahead.subList(0, Math.min(PAGE_SIZE, ahead.size()));
+        boolean hasNext = ahead.size() > PAGE_SIZE;
+        Long nextCursor = hasNext ? pageIds.get(pageIds.size() - 1) : null;
+
+        // 페이지 링크: 앞쪽 LINK_WINDOW개 + 현재 + 뒤쪽 LINK_WINDOW개
+        List<PostDTO.PageLink> links = new ArrayList<>();
+        if (cursor != null) {
+            // 커서에 가까운 순서의 id -> k번째 앞 페이지의 커서는 (k * PAGE_SIZE)번째 id
+            List<Long> behind = findIdsAfter(keyword, seek, PAGE_SIZE * LINK_WINDOW);
+            for (int k = LINK_WINDOW; k >= 1; k--) {
+                int idx = k * PAGE_SIZE - 1;
+                if (page - k > 1 && idx < behind.size()) {
+                    links.add(new PostDTO.PageLink(page - k, behind.get(idx)));
+                }
+            }
+            // 첫 페이지 링크는 항상 (중간 페이지가 빠져도 처음으로 돌아갈 수 있게)
+            links.add(0, new PostDTO.PageLink(1, null));
+        }
+        links.add(new PostDTO.PageLink(page, cursor));
+        for (int k = 1; k <= LINK_WINDOW && ahead.size() > k * PAGE_SIZE; k++) {
+            links.add(new PostDTO.PageLink(page + k, ahead.get(k * PAGE_SIZE - 1)));
+        }
+
+        List<PostDTO.ListItem> content = items != null
+                ? items.subList(0, pageIds.size())
+                : findListItems(pageIds);
+        return new PostDTO.CursorPage(content, page, hasNext, nextCursor, links);
+    }
+
+    // 검색 결과/인기 게시글 id -> 목록 프로젝션 (IN 조회 후 주어진 id 순서대로, 관련도순일 수 있으므로)
+    @Transactional(readOnly = true)
+    public List<PostDTO.ListItem> findListItems(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostDTO.ListItem> byId = postRepository.findListItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostDTO.ListItem::id, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull) // 검색 직후 삭제된 글
+                .toList();
+    }
+
+    // 검색어가 없으면 PK 범위 조회, 있으면 검색 구현체(search.backend)
+    private List<Long> findIdsAfter(String keyword, long cursor, int limit) {
+        return StringUtils.hasText(keyword)
+                ? postSearch.findIdsAfter(keyword, cursor, limit)
+                : postRepository.findIdsAfter(cursor, Limit.of(limit));
     }
 
     // 2-2. findOne (byId...)
@@ -52,23 +129,32 @@ public class PostService {
                 .orElseThrow(() -> new IllegalArgumentException("게시물 없음"));
     }
 
+    // 작성자 username (권한 확인용 - 게시글 엔티티/본문을 읽지 않음)
+    @Transactional(readOnly = true)
+    public String findAuthorUsername(Long id) {
+        return postRepository.findAuthorUsernameById(id)
+                .orElseThrow(() -> new IllegalArgumentException("게시물 없음"));
+    }
+
     @Transactional
-    public void deleteById(Long id) {
-        if (!postRepository.existsById(id)) {
-            throw new IllegalArgumentException("게시물 없음");
+    public void deleteById(Long id, Long userId) {
+        // 존재 확인 + 권한 확인 + 삭제를 DELETE 한 번으로 (삭제된 행이 없으면 없는 게시물이거나 작성자가 아님)
+        if (postRepository.deleteOwned(id, userId) == 0) {
+            throw new SecurityException("게시물 없음 또는 삭제 권한 없음");
         }
-        postRepository.deleteById(id);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(id));
     }
 
     @Transactional
-    public void updatePost(Long id, PostDTO.Request dto) {
+    public void updatePost(Long id, Long userId, PostDTO.Request dto) {
         Post post = findById(id); // 없으면 예외처리로...
-        // 작성자와 수정을 하려는 사람이 다르다
-        if (!post.getAuthor().getUsername().equals(dto.getUsername())) {
+        // 작성자와 수정을 하려는 사람이 다르다 (작성자 id는 프록시에 이미 있음 -> 작성자 SELECT 없음)
+        if (!post.getAuthor().getId().equals(userId)) {
             throw new SecurityException("작성자만 수정 가능");
         }
         post.setTitle(dto.getTitle());
         post.setContent(dto.getContent());
         postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.saved(post));
     }
 }
\ No newline at end of file
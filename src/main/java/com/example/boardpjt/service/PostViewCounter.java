@@ -0,0 +1,102 @@
+package com.example.boardpjt.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 (write-behind)
+ * 조회할 때마다 UPDATE 하면 인기 게시글 한 행의 잠금에 요청이 줄을 서게 되므로
+ * 메모리의 게시글별 누적값에 더해 두고 주기적으로(기본 5초) 모아서 UPDATE 한 번으로 반영
+ * 서버가 비정상 종료되면 마지막 반영 이후의 조회수(최대 flush 주기만큼)는 유실될 수 있음
+ */
+@Service
+public class PostViewCounter {
+
+    // UPDATE 한 번에 반영하는 최대 게시글 수 (IN 목록/파라미터 수 제한)
+    private static final int FLUSH_BATCH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글 id -> 아직 DB에 반영하지 않은 조회수
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 더함, DB 접근 없음)
+     */
+    public void increment(Long postId) {
+        pending.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * 쌓인 조회수를 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${post.views.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += FLUSH_BATCH) {
+            List<Map.Entry<Long, Long>> batch = entries.subList(from, Math.min(from + FLUSH_BATCH, entries.size()));
+            try {
+                update(batch);
+            } catch (RuntimeException e) {
+                // 반영 실패 -> 다음 주기에 다시 시도하도록 되돌려 둠
+                System.err.println("조회수 반영 실패: " + e.getMessage());
+                batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), Long::sum));
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /**
+     * 게시글별 누적 조회수를 꺼내면서 맵에서 제거
+     * merge와 remove는 키 단위로 원자적 -> 조회수는 꺼내기 전 값에 더해지거나 꺼낸 뒤 새 항목으로 들어가고 유실되지 않음
+     * 한 주기 동안 조회가 없었던 게시글은 맵에 남지 않음
+     */
+    Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long id : pending.keySet()) {
+            Long delta = pending.remove(id);
+            if (delta != null) {
+                deltas.put(id, delta);
+            }
+        }
+        return deltas;
+    }
+
+    // UPDATE post SET views = views + CASE id WHEN ? THEN ? ... END WHERE id IN (?, ...)
+    private void update(List<Map.Entry<Long, Long>> batch) {
+        StringBuilder sql = new StringBuilder("UPDATE post SET views = views + CASE id");
+        List<Object> args = new ArrayList<>(batch.size() * 3);
+        for (Map.Entry<Long, Long> entry : batch) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+        sql.append(" ELSE 0 END WHERE id IN (");
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(batch.get(i).getKey());
+        }
+        sql.append(")");
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.model.repository.RefreshTokenStore;
+import com.example.boardpjt.util.ClaimsCache;
+import com.example.boardpjt.util.ClusterEventBus;
+import com.example.boardpjt.util.JwtUtil;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh Token으로 Access Token을 재발급하는 서비스
+ * Access Token이 만료된 직후 브라우저가 동시에 보내는 여러 요청(페이지, 댓글, 팔로우 수 조회 등)을
+ * 하나로 합쳐서 저장소 조회 1회 + 서명 1회로 처리 (single-flight)
+ * 재발급이 끝난 뒤에도 짧은 유예 시간 동안은 같은 결과(새 Access Token)를 재사용
+ * 로그아웃하면 해당 Refresh Token의 재발급 결과를 모든 노드에서 바로 버림 (유예 시간 동안 재사용되지 않도록)
+ */
+@Service
+public class TokenRefreshService {
+
+    // 진행 중(또는 유예 시간 내) 재발급 작업이 이 개수를 넘으면 오래된 항목을 정리
+    private static final int SWEEP_THRESHOLD = 1024;
+
+    // 다른 노드에 재발급 결과 제거(로그아웃)를 알리는 채널
+    private static final String EVICT_CHANNEL = "auth:refresh-evict";
+
+    /**
+     * 재발급 결과 (새 Access Token + DB 기준 사용자 정보)
+     */
+    public record Refreshed(String accessToken, UserDetails userDetails) {
+    }
+
+    /**
+     * Refresh Token 하나에 대한 재발급 작업
+     * completedAt == 0 이면 아직 진행 중
+     */
+    private static final class Flight {
+        private final CompletableFuture<Refreshed> future = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private boolean reusable(long now, long graceMillis) {
+            if (completedAt == 0) {
+                return true; // 진행 중이면 합류
+            }
+            // 실패한 결과는 재사용하지 않고, 성공한 결과는 유예 시간 동안만 재사용
+            return !future.isCompletedExceptionally() && now - completedAt < graceMillis;
+        }
+    }
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserDetailsService userDetailsService;
+    private final JwtUtil jwtUtil;
+    private final ClusterEventBus clusterEventBus;
+
+    // 재발급 결과를 재사용하는 유예 시간 (밀리초)
+    private final long graceMillis;
+
+    // Refresh Token 해시 -> 재발급 작업
+    private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+    public TokenRefreshService(RefreshTokenStore refreshTokenStore,
+                               UserDetailsService userDetailsService,
+                               JwtUtil jwtUtil,
+                               ClusterEventBus clusterEventBus,
+                               @Value("${jwt.refresh.grace-ms:10000}") long graceMillis) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.userDetailsService = userDetailsService;
+        this.jwtUtil = jwtUtil;
+        this.clusterEventBus = clusterEventBus;
+        this.graceMillis = graceMillis;
+    }
+
+    @PostConstruct
+    void subscribeEviction() {
+        // 다른 노드에서 로그아웃 -> 이 노드의 재발급 결과도 제거
+        clusterEventBus.subscribe(EVICT_CHANNEL, flights::remove);
+    }
+
+    /**
+     * 로그아웃 시 해당 Refresh Token의 재발급 결과 제거 (이 노드 + 다른 노드)
+     * 제거하지 않으면 유예 시간 동안 Refresh Token 쿠키만으로 재발급 결과를 다시 받을 수 있음
+     */
+    public void evict(String refreshToken) {
+        String key = ClaimsCache.keyOf(refreshToken);
+        flights.remove(key);
+        clusterEventBus.publish(EVICT_CHANNEL, key);
+    }
+
+    /**
+     * 유예 시간이 지난 재발급 결과 정리 (기본 1분마다, 요청이 적어서 SWEEP_THRESHOLD에 닿지 않아도)
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        flights.values().removeIf(f -> !f.reusable(now, graceMillis));
+    }
+
+    /**
+     * Refresh Token을 검증하고 새 Access Token을 발급
+     * 같은 Refresh Token으로 동시에 들어온 요청은 먼저 온 요청의 결과를 함께 사용
+     *
+     * @param refreshToken 쿠키로 전달된 Refresh Token
+     * @return Refreshed 새 Access Token과 사용자 정보
+     * @throws RuntimeException 저장된 Refresh Token이 없거나 일치하지 않을 때
+     */
+    public Refreshed refresh(String refreshToken) {
+        String key = ClaimsCache.keyOf(refreshToken);
+        long now = System.currentTimeMillis();
+
+        Flight created = new Flight();
+        Flight flight = flights.compute(key, (k, existing) ->
+                existing != null && existing.reusable(now, graceMillis) ? existing : created);
+
+        if (flight != created) {
+            // 이미 진행 중이거나 방금 끝난 재발급에 합류
+            return await(flight.future);
+        }
+
+        // 이 요청이 대표로 재발급 수행
+        try {
+            flight.future.complete(doRefresh(refreshToken));
+        } catch (RuntimeException e) {
+            flight.future.completeExceptionally(e);
+        } finally {
+            flight.completedAt = System.currentTimeMillis();
+            if (flights.size() > SWEEP_THRESHOLD) {
+                long sweepAt = flight.completedAt;
+                flights.values().removeIf(f -> !f.reusable(sweepAt, graceMillis));
+            }
+        }
+        return await(flight.future);
+    }
+
+    private Refreshed doRefresh(String refreshToken) {
+        // 1. 저장소에 refresh가 저장되었는지 비교 -> 검증
+        String username = jwtUtil.getUsername(refreshToken); // refresh -> username
+        if (!refreshTokenStore.matches(username, refreshToken)) {
+            throw new RuntimeException("Refresh Token 불일치");
+        }
+
+        // 2. accessToken 재발급
+        // 권한은 Refresh Token이 아닌 DB 기준으로 다시 담음 (claims-only 모드에서 권한 변경이 반영되는 시점)
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        Long userId = userDetails instanceof UserPrincipal principal ? principal.getId() : null;
+        String newAccessToken = jwtUtil.generateToken(userId, username, userDetails.getAuthorities().toString(), false);
+        return new Refreshed(newAccessToken, userDetails);
+    }
+
+    private Refreshed await(CompletableFuture<Refreshed> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.util.BloomFilter;
+import com.example.boardpjt.util.ClusterEventBus;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access Token 폐기(로그아웃) 목록 관리 서비스
+ * 로그아웃해도 Access Token은 만료 시각까지 유효하므로, 토큰 id(jti)를 폐기 목록에 올려서 차단
+ * - 각 노드는 폐기된 jti의 Bloom filter를 메모리에 유지 -> 대부분의 요청은 I/O 없이 "폐기 아님" 판정
+ * - Bloom filter에 걸렸을 때만 실제 목록(로컬 맵, 없으면 Redis)으로 한 번 더 확인 (오탐 제거)
+ * - 폐기 정보는 Redis("revoked:{jti}", 토큰 만료까지 TTL)에 저장하고 pub/sub으로 다른 노드에 전파
+ * - 만료된 jti는 Bloom filter에서 지울 수 없으므로 주기적으로 새 필터를 만들어 교체
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final String KEY_PREFIX = "revoked:";
+    private static final String REVOKE_CHANNEL = "token:revoked";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ClusterEventBus clusterEventBus;
+
+    // Access Token 만료 시간 (만료 시각을 모르는 폐기 항목의 보관 상한)
+    private final long accessExpiry;
+    private final long expectedRevocations;
+
+    // 폐기된 jti -> 토큰 만료 시각 (이 노드가 알고 있는 폐기 목록)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationService(StringRedisTemplate redisTemplate,
+                                  ClusterEventBus clusterEventBus,
+                                  @Value("${jwt.expiry.access}") long accessExpiry,
+                                  @Value("${jwt.revocation.expected-size:100000}") long expectedRevocations) {
+        this.redisTemplate = redisTemplate;
+        this.clusterEventBus = clusterEventBus;
+        this.accessExpiry = accessExpiry;
+        this.expectedRevocations = expectedRevocations;
+        this.bloomFilter = newFilter();
+    }
+
+    @PostConstruct
+    void init() {
+        // 다른 노드의 로그아웃 전파 수신 (payload: "{jti}:{만료 시각}")
+        clusterEventBus.subscribe(REVOKE_CHANNEL, payload -> {
+            int idx = payload.lastIndexOf(':');
+            if (idx > 0) {
+                remember(payload.substring(0, idx), Long.parseLong(payload.substring(idx + 1)));
+            }
+        });
+        // 서버 시작 전에 폐기된 토큰을 Redis에서 가져옴
+        syncFromRedis();
+    }
+
+    /**
+     * Access Token 폐기 (로그아웃 시)
+     *
+     * @param jti 토큰 id
+     * @param expiresAt 토큰 만료 시각 (이 시각 이후에는 폐기 정보가 필요 없음)
+     */
+    public void revoke(String jti, long expiresAt) {
+        long ttl = expiresAt - System.currentTimeMillis();
+        if (jti == null || ttl <= 0) {
+            return; // 이미 만료된 토큰은 폐기할 필요 없음
+        }
+        remember(jti, expiresAt);
+        if (clusterEventBus.isEnabled()) {
+            redisTemplate.opsForValue().set(KEY_PREFIX + jti, "1", Duration.ofMillis(ttl));
+            clusterEventBus.publish(REVOKE_CHANNEL, jti + ":" + expiresAt);
+        }
+    }
+
+    /**
+     * 폐기된 토큰인지 확인
+     * Bloom filter에서 걸리지 않으면 I/O 없이 바로 false
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        // Bloom filter 적중 -> 실제 목록으로 확인
+        Long expiresAt = revoked.get(jti);
+        if (expiresAt != null) {
+            return expiresAt > System.currentTimeMillis();
+        }
+        return clusterEventBus.isEnabled() && Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jti));
+    }
+
+    /**
+     * 만료된 폐기 항목 정리 + Bloom filter 재구성 (기본 10분마다)
+     * pub/sub 메시지를 놓친 경우를 대비해 Redis 목록과도 다시 맞춤
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        syncFromRedis();
+
+        BloomFilter rebuilt = newFilter();
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        // 재구성 중에 추가된 항목이 빠지지 않도록 교체 후 한 번 더 반영
+        revoked.keySet().forEach(rebuilt::put);
+    }
+
+    private void remember(String jti, long expiresAt) {
+        revoked.merge(jti, expiresAt, Math::max);
+        bloomFilter.put(jti);
+    }
+
+    private void syncFromRedis() {
+        if (!clusterEventBus.isEnabled()) {
+            return;
+        }
+        try (Cursor<String> keys = redisTemplate.scan(
+                ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            // 정확한 만료 시각은 모르므로 Access Token 최대 수명을 상한으로 보관
+            long expiresAt = System.currentTimeMillis() + accessExpiry;
+            keys.forEachRemaining(key -> revoked.putIfAbsent(key.substring(KEY_PREFIX.length()), expiresAt));
+        } catch (Exception e) {
+            System.err.println("폐기 토큰 목록 동기화 실패: " + e.getMessage());
+        }
+        revoked.keySet().forEach(bloomFilter::put);
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedRevocations, 0.01);
+    }
+}
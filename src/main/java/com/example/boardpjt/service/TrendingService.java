@@ -0,0 +1,237 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.util.ClusterEventBus;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 인기 게시글 순위 (시간 감쇠 점수, 서버 메모리)
+ * - 점수: 조회 1, 댓글 5, 작성자 팔로우 10 -> 반감기(기본 6시간)마다 절반으로 줄어듦
+ * - 감쇠는 forward decay 방식: 기준 시각부터 지난 시간만큼 가중치를 키워서 더함 (기존 점수를 매번 줄이지 않음)
+ *   가중치가 너무 커지기 전에 기준 시각을 옮기면서 모든 점수를 한 번에 축소 (rebase)
+ * - 조회/댓글/팔로우가 일어날 때마다 점수에 바로 더하고, 상위 K개는 주기적으로(기본 10초) 다시 계산해 둠
+ *   -> 인기 게시글 화면은 DB 집계 없이 미리 계산된 id 목록만 사용
+ * - 여러 서버: 댓글/팔로우(드묾)는 다른 노드에도 전파, 조회는 로드밸런서가 고르게 나누므로 각 노드 값 사용
+ */
+@Service
+public class TrendingService {
+
+    // 다른 노드에 댓글/팔로우를 알리는 채널
+    private static final String SIGNAL_CHANNEL = "trending:signal";
+
+    // 점수 가중치
+    private static final double VIEW_WEIGHT = 1;
+    private static final double COMMENT_WEIGHT = 5;
+    private static final double FOLLOW_WEIGHT = 10;
+
+    // 기준 시각 이후 지난 시간 / tau가 이 값을 넘으면 rebase (exp(40) ~ 2e17, double 범위에 충분히 여유)
+    private static final double REBASE_EXPONENT = 40;
+
+    // 게시글 점수 (작성자 id와 함께 - 작성자 팔로우 점수를 더하기 위해)
+    private record Score(Long authorId, DoubleAdder value) {
+    }
+
+    // 화면에 보여줄 순위 (score: 현재 시각 기준으로 감쇠한 점수)
+    public record Ranked(Long postId, double score) {
+    }
+
+    private final ClusterEventBus clusterEventBus;
+    // 댓글이 달린 게시글의 작성자 id (점수가 아직 없는 게시글만, 상세 스냅샷 캐시)
+    private final PostDetailService postDetailService;
+
+    // 감쇠 시간 상수 (반감기 / ln 2, 밀리초)
+    private final double tauMillis;
+    // 상위 몇 개를 보여줄지
+    private final int size;
+    // 점수를 들고 있을 최대 게시글/작성자 수 (넘으면 점수가 낮은 것부터 정리)
+    private final int capacity;
+
+    // 게시글 id -> 점수, 작성자 id -> 팔로우 점수 (모두 baseTime 기준 값)
+    private final ConcurrentHashMap<Long, Score> posts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, DoubleAdder> authors = new ConcurrentHashMap<>();
+
+    private volatile long baseTime = System.currentTimeMillis();
+
+    // 마지막으로 계산한 상위 K개
+    private volatile List<Ranked> top = List.of();
+
+    public TrendingService(ClusterEventBus clusterEventBus,
+                           PostDetailService postDetailService,
+                           @Value("${trending.half-life-ms:21600000}") long halfLifeMillis,
+                           @Value("${trending.size:10}") int size,
+                           @Value("${trending.capacity:5000}") int capacity) {
+        this.clusterEventBus = clusterEventBus;
+        this.postDetailService = postDetailService;
+        this.tauMillis = halfLifeMillis / Math.log(2);
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    @PostConstruct
+    void subscribeSignals() {
+        // "c|{postId}|{authorId}" (댓글) / "f|{authorId}" (팔로우)
+        clusterEventBus.subscribe(SIGNAL_CHANNEL, payload -> {
+            String[] parts = payload.split("\\|");
+            if (parts[0].equals("c") && parts.length == 3) {
+                addToPost(Long.valueOf(parts[1]), Long.valueOf(parts[2]), COMMENT_WEIGHT);
+            } else if (parts[0].equals("f") && parts.length == 2) {
+                addToAuthor(Long.valueOf(parts[1]), FOLLOW_WEIGHT);
+            }
+        });
+    }
+
+    /**
+     * 게시글 조회
+     */
+    public void recordView(Long postId, Long authorId) {
+        addToPost(postId, authorId, VIEW_WEIGHT);
+    }
+
+    /**
+     * 댓글 작성 (다른 노드에도 전파)
+     */
+    public void recordComment(Long postId, Long authorId) {
+        addToPost(postId, authorId, COMMENT_WEIGHT);
+        clusterEventBus.publish(SIGNAL_CHANNEL, "c|" + postId + "|" + authorId);
+    }
+
+    /**
+     * 댓글 작성 이벤트 (커밋 후) - 댓글 작성 트랜잭션이 게시글/작성자를 읽지 않도록 여기서 작성자 id를 찾음
+     * 이미 점수가 있는 게시글이면 그 작성자 id, 없으면 상세 스냅샷 캐시 (보통 방금 본 글이라 캐시에 있음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.deleted()) {
+            return;
+        }
+        Score score = posts.get(event.postId());
+        Long authorId;
+        try {
+            authorId = score != null ? score.authorId() : postDetailService.findDetail(event.postId()).authorId();
+        } catch (IllegalArgumentException e) {
+            return; // 그 사이 삭제된 게시글
+        }
+        recordComment(event.postId(), authorId);
+    }
+
+    /**
+     * 작성자 팔로우 (해당 작성자의 모든 게시글 점수에 반영, 다른 노드에도 전파)
+     */
+    public void recordFollow(Long authorId) {
+        addToAuthor(authorId, FOLLOW_WEIGHT);
+        clusterEventBus.publish(SIGNAL_CHANNEL, "f|" + authorId);
+    }
+
+    /**
+     * 삭제된 게시글은 순위에서 제외 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.deleted()) {
+            posts.remove(event.id());
+        }
+    }
+
+    /**
+     * 인기 게시글 순위 (마지막으로 계산한 값, 계산 비용 없음)
+     */
+    public List<Ranked> top() {
+        return top;
+    }
+
+    /**
+     * 상위 K개 다시 계산 + 필요하면 rebase/정리 (기본 10초마다)
+     */
+    @Scheduled(fixedDelayString = "${trending.refresh-ms:10000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        if ((now - baseTime) / tauMillis > REBASE_EXPONENT) {
+            rebase(now);
+        }
+        if (posts.size() > capacity) {
+            prune(posts, capacity, this::scoreOf);
+        }
+        if (authors.size() > capacity) {
+            prune(authors, capacity, DoubleAdder::sum);
+        }
+
+        // 크기 K의 최소 힙으로 상위 K개 (게시글 수 n -> O(n log K))
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(Comparator.comparingDouble(Ranked::score));
+        posts.forEach((id, score) -> {
+            double value = scoreOf(score);
+            if (heap.size() < size) {
+                heap.add(new Ranked(id, value));
+            } else if (value > heap.peek().score()) {
+                heap.poll();
+                heap.add(new Ranked(id, value));
+            }
+        });
+        // 현재 시각 기준 점수로 바꿔서 높은 순서대로
+        double decay = Math.exp(-(now - baseTime) / tauMillis);
+        List<Ranked> ranked = new ArrayList<>(heap.size());
+        for (Ranked r : heap) {
+            ranked.add(new Ranked(r.postId(), r.score() * decay));
+        }
+        ranked.sort(Comparator.comparingDouble(Ranked::score).reversed());
+        top = List.copyOf(ranked);
+    }
+
+    private void addToPost(Long postId, Long authorId, double weight) {
+        Score score = posts.get(postId);
+        if (score == null) {
+            score = posts.computeIfAbsent(postId, k -> new Score(authorId, new DoubleAdder()));
+        }
+        score.value().add(weighted(weight));
+    }
+
+    private void addToAuthor(Long authorId, double weight) {
+        DoubleAdder adder = authors.get(authorId);
+        if (adder == null) {
+            adder = authors.computeIfAbsent(authorId, k -> new DoubleAdder());
+        }
+        adder.add(weighted(weight));
+    }
+
+    // 게시글 점수 = 게시글 자체 점수 + 작성자 팔로우 점수 (baseTime 기준)
+    private double scoreOf(Score score) {
+        DoubleAdder author = authors.get(score.authorId());
+        return score.value().sum() + (author == null ? 0 : author.sum());
+    }
+
+    // 지금 더할 가중치 = weight * e^((now - baseTime) / tau)
+    private double weighted(double weight) {
+        return weight * Math.exp((System.currentTimeMillis() - baseTime) / tauMillis);
+    }
+
+    // 기준 시각을 now로 옮기고 모든 점수를 e^(-(now - baseTime) / tau)배
+    // (rebase 도중 옛 기준으로 더해진 몇 건의 오차는 무시)
+    private void rebase(long now) {
+        double factor = Math.exp(-(now - baseTime) / tauMillis);
+        baseTime = now;
+        posts.values().forEach(s -> s.value().add(s.value().sumThenReset() * factor));
+        authors.values().forEach(a -> a.add(a.sumThenReset() * factor));
+    }
+
+    // 점수가 낮은 항목부터 정리해서 capacity의 90%로
+    private static <V> void prune(ConcurrentHashMap<Long, V> map, int capacity, ToDoubleFunction<V> score) {
+        int target = capacity - Math.max(1, capacity / 10);
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(map.size());
+        map.forEach((k, v) -> entries.add(Map.entry(k, score.applyAsDouble(v))));
+        entries.sort(Map.Entry.comparingByValue());
+        for (int i = 0; i < entries.size() - target; i++) {
+            map.remove(entries.get(i).getKey());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.boardpjt.service;
+
+/**
+ * 사용자 계정이 생성/삭제/권한 변경되었을 때 발행하는 이벤트
+ * CustomUserDetailsService가 받아서 해당 사용자의 캐시를 제거
+ *
+ * @param username 변경된 사용자명
+ */
+public record UserAccountChangedEvent(String username) {
+}
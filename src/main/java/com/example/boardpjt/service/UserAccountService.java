@@ -3,6 +3,7 @@ package com.example.boardpjt.service;
 import com.example.boardpjt.model.entity.UserAccount;
 import com.example.boardpjt.model.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +30,9 @@ public class UserAccountService {
     // SecurityConfig에서 BCrypt 기반의 DelegatingPasswordEncoder로 설정됨
     private final PasswordEncoder passwordEncoder;
 
+    // 계정 변경 이벤트 발행 (사용자 정보 캐시 제거용, 커밋 후 처리됨)
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 새로운 사용자를 등록하는 메서드
      * 사용자명 중복 검사, 비밀번호 암호화, 기본 권한 설정을 포함한 완전한 회원가입 처리
@@ -81,7 +85,11 @@ public class UserAccountService {
         // - id가 null인 경우: INSERT 쿼리 실행 (새로운 엔티티 생성)
         // - id가 존재하는 경우: UPDATE 쿼리 실행 (기존 엔티티 수정)
         // 저장 후 자동 생성된 id가 포함된 UserAccount 객체 반환
-        return userAccountRepository.save(userAccount);
+        UserAccount saved = userAccountRepository.save(userAccount);
+
+        // 가입 전에 "없는 사용자"로 조회된 흔적이 있어도 캐시에서 정리되도록 이벤트 발행
+        eventPublisher.publishEvent(new UserAccountChangedEvent(username));
+        return saved;
 
         // === 트랜잭션 커밋 ===
         // 메서드가 정상적으로 종료되면 @Transactional에 의해 자동 커밋
@@ -118,7 +126,12 @@ public class UserAccountService {
     // 유저를 탈퇴(삭제) 메서드
     @Transactional
     public void deleteUser(Long id) {
-        userAccountRepository.deleteById(id);
+        // 캐시 제거를 위해 사용자명이 필요하므로 먼저 조회
+        userAccountRepository.findById(id).ifPresent(userAccount -> {
+            userAccountRepository.delete(userAccount);
+            // 탈퇴한 사용자의 캐시된 인증 정보 제거 (커밋 후)
+            eventPublisher.publishEvent(new UserAccountChangedEvent(userAccount.getUsername()));
+        });
     }
 
     public UserAccount findByUsername(String name) {
@@ -0,0 +1,39 @@
+package com.example.boardpjt.service;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 인증된 사용자 (Spring Security User + 사용자 id)
+ * 쓰기 경로(글/댓글 작성, 삭제, 팔로우)가 username으로 사용자를 다시 조회하지 않고 id를 바로 사용
+ * - 로그인/DB 조회: CustomUserDetailsService가 스냅샷의 id로 생성
+ * - claims-only: JWT의 uid 클레임으로 생성 (uid가 없는 이전 토큰이면 id가 null)
+ */
+public class UserPrincipal extends User {
+
+    // 사용자 id (uid 클레임이 없는 이전 토큰이면 null)
+    private final Long id;
+
+    public UserPrincipal(Long id, String username, String password,
+                         Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * 인증 객체에 담긴 사용자 id (UserPrincipal이 아니거나 id가 없으면 null)
+     */
+    public static Long idOf(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.boardpjt.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 전용 Bloom filter (동시성 안전, 삭제 불가)
+ * mightContain()이 false면 "확실히 없음", true면 "있을 수도 있음" (오탐 확률 fpp)
+ * 오탐은 호출하는 쪽에서 실제 저장소를 한 번 더 확인하는 방식으로 처리
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 저장 개수
+     * @param fpp 허용 오탐 확률 (예: 0.01 = 1%)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        // 최적 비트 수 m = -n * ln(p) / (ln 2)^2, 해시 함수 수 k = m / n * ln 2
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((m + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1);
+        for (int i = 0; i < hashCount; i++) {
+            long idx = index(h1 + i * h2);
+            if ((bits.get((int) (idx >>> 6)) & (1L << idx)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(long combined) {
+        return (combined & Long.MAX_VALUE) % bitCount;
+    }
+
+    private void setBit(long idx) {
+        int word = (int) (idx >>> 6);
+        long mask = 1L << idx;
+        long prev;
+        do {
+            prev = bits.get(word);
+            if ((prev & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, prev, prev | mask));
+    }
+
+    // FNV-1a 64bit
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    // 비트를 고르게 섞어주는 finalizer (splitmix64)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
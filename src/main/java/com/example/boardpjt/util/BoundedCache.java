@@ -0,0 +1,109 @@
+package com.example.boardpjt.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 제한 + 항목별 만료 시각을 가지는 동시성 캐시 (로컬 메모리)
+ * - 만료: 항목마다 지정한 시각이 지나면 더 이상 반환하지 않음
+ * - 크기: maxSize를 넘으면 만료 항목부터, 그래도 넘으면 일부 항목을 제거
+ * - 통계: 적중/실패/제거 횟수 (관리자 페이지에서 확인)
+ */
+public class BoundedCache<K, V> {
+
+    // 한 번 가득 찼을 때 비울 비율 (매 요청마다 정리하지 않도록 여유를 둠)
+    private static final int EVICT_PERCENT = 10;
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size, int maxSize) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시된 값 조회 (없거나 만료되었으면 null)
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * 값 저장
+     *
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    public void put(K key, V value, long expiresAt) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), maxSize);
+    }
+
+    private void evict() {
+        // 여러 스레드가 동시에 정리하지 않도록 한 스레드만 수행
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            int before = entries.size();
+            // 1. 만료된 항목부터 제거
+            entries.values().removeIf(e -> e.expiresAt() <= now);
+
+            // 2. 그래도 가득 차 있으면 일부를 제거 (ConcurrentHashMap 순회 순서 = 해시 순서라 사실상 임의 선택)
+            int target = maxSize - Math.max(1, maxSize * EVICT_PERCENT / 100);
+            Iterator<K> it = entries.keySet().iterator();
+            while (entries.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+            evictions.add(Math.max(0, before - entries.size()));
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
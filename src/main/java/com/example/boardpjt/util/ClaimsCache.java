@@ -0,0 +1,48 @@
+package com.example.boardpjt.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임을 보관하는 캐시
+ * 같은 Access Token이 반복해서 들어올 때 HMAC 검증 + JSON 파싱을 다시 하지 않도록 함
+ * - 키: 토큰 원문이 아닌 SHA-256 해시 (토큰 자체를 메모리에 오래 들고 있지 않기 위함)
+ * - 만료: 토큰의 exp 시각이 지나면 더 이상 반환하지 않음
+ *   (만료된 토큰은 다시 파싱하게 해서 ExpiredJwtException이 정상적으로 발생하도록 함)
+ */
+public class ClaimsCache extends BoundedCache<String, Claims> {
+
+    public ClaimsCache(int maxSize) {
+        super(maxSize);
+    }
+
+    /**
+     * 검증이 끝난 클레임 저장 (exp가 없는 토큰은 저장하지 않음)
+     */
+    public void put(String key, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        put(key, claims, expiration.getTime());
+    }
+
+    /**
+     * 토큰 문자열 -> 캐시 키 (SHA-256, Base64)
+     */
+    public static String keyOf(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 제공되므로 실제로는 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+}
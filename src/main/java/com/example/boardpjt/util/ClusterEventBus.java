@@ -0,0 +1,68 @@
+package com.example.boardpjt.util;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 여러 서버(노드) 사이에 간단한 문자열 메시지를 주고받는 컴포넌트 (Redis pub/sub)
+ * 로컬 캐시 무효화처럼 "다른 노드에게 알리기만 하면 되는" 용도로 사용
+ * 메시지 형식: "{보낸 노드 id}|{payload}" -> 자기 자신이 보낸 메시지는 무시
+ * cluster.enabled: false (단일 서버 모드)면 발행/구독 모두 아무 일도 하지 않음
+ */
+@Component
+public class ClusterEventBus {
+
+    private static final char SEPARATOR = '|';
+
+    // 이 서버 인스턴스의 식별자 (재시작할 때마다 새로 생성)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 단일 서버 모드에서는 빈이 없으므로 null
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public ClusterEventBus(StringRedisTemplate redisTemplate,
+                           ObjectProvider<RedisMessageListenerContainer> listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer.getIfAvailable();
+    }
+
+    public boolean isEnabled() {
+        return listenerContainer != null;
+    }
+
+    /**
+     * 다른 노드들에게 메시지 발행
+     */
+    public void publish(String channel, String payload) {
+        if (!isEnabled()) {
+            return;
+        }
+        redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + payload);
+    }
+
+    /**
+     * 다른 노드가 발행한 메시지 구독 (자기 자신이 보낸 메시지는 전달하지 않음)
+     */
+    public void subscribe(String channel, Consumer<String> handler) {
+        if (!isEnabled()) {
+            return;
+        }
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int idx = body.indexOf(SEPARATOR);
+            if (idx < 0 || body.substring(0, idx).equals(nodeId)) {
+                return;
+            }
+            handler.accept(body.substring(idx + 1));
+        }, new ChannelTopic(channel));
+    }
+}
@@ -6,12 +6,22 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public class CookieUtil {
     public static void createCookie(HttpServletResponse response, String key, String value, int maxAge) {
+        createCookie(response, key, value, maxAge, "/");
+    }
+
+    /**
+     * 경로를 지정해서 쿠키 생성 (해당 경로 아래 요청에만 브라우저가 쿠키를 보냄)
+     */
+    public static void createCookie(HttpServletResponse response, String key, String value, int maxAge, String path) {
 //        ResponseCookie cookie = ResponseCookie.from("access_token", accessToken)
         ResponseCookie cookie = ResponseCookie.from(key, value)
                 .httpOnly(true) // XSS 공격 방지 (JavaScript에서 접근 불가)
-                .path("/") // 쿠키가 유효한 경로 (전체 도메인)
+                .path(path) // 쿠키가 유효한 경로 ("/"이면 전체 도메인)
 //                .maxAge(3600) // 쿠키 유효기간 (3600초 = 1시간) 주의: 초 단위임
                 .maxAge(maxAge)
                 .build();
@@ -34,10 +44,40 @@ public class CookieUtil {
         return null;
     }
 
+    /**
+     * 쿠키 배열을 한 번만 순회하면서 여러 개의 쿠키 값을 찾는 메서드
+     * (findCookie를 키마다 호출하면 쿠키 배열을 여러 번 순회하게 됨)
+     *
+     * @return Map<String, String> 찾은 쿠키 이름 -> 값 (없는 키는 포함되지 않음)
+     */
+    public static Map<String, String> findCookies(HttpServletRequest request, String... keys) {
+        Map<String, String> found = new HashMap<>();
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return found;
+        }
+        for (Cookie c : cookies) {
+            for (String key : keys) {
+                if (c.getName().equals(key)) {
+                    found.put(key, c.getValue());
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
     public static void deleteCookie(HttpServletResponse response, String key) {
+        deleteCookie(response, key, "/");
+    }
+
+    /**
+     * 경로를 지정해서 쿠키 삭제 (생성할 때와 같은 경로여야 삭제됨)
+     */
+    public static void deleteCookie(HttpServletResponse response, String key, String path) {
         ResponseCookie cookie = ResponseCookie.from(key, "")
                 .httpOnly(true) // XSS 공격 방지 (JavaScript에서 접근 불가)
-                .path("/") // 쿠키가 유효한 경로 (전체 도메인)
+                .path(path) // 쿠키가 유효한 경로
                 .maxAge(0)
                 .build();
 
@@ -0,0 +1,43 @@
+package com.example.boardpjt.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 조건부 GET(ETag / If-None-Match) 처리
+ * 브라우저는 응답을 저장해 두고 매번 ETag로 검증 -> 바뀌지 않았으면 304 (본문 렌더링/직렬화 생략)
+ */
+public class ETagUtil {
+
+    // 저장은 하되 매번 서버에 검증 (로그인 사용자별 화면이므로 공유 캐시에는 저장하지 않음)
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    /**
+     * 요청의 If-None-Match가 etag와 같으면 304로 응답하고 true
+     * true면 컨트롤러는 렌더링/직렬화 없이 null을 반환
+     *
+     * @param parts ETag를 이루는 값들 ("-"로 연결, 따옴표는 자동으로 붙음 - strong ETag)
+     */
+    public static boolean checkNotModified(WebRequest webRequest, HttpServletResponse response, Object... parts) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        StringBuilder etag = new StringBuilder();
+        for (Object part : parts) {
+            if (!etag.isEmpty()) {
+                etag.append('-');
+            }
+            etag.append(part instanceof LocalDateTime time ? versionOf(time) : String.valueOf(part));
+        }
+        return webRequest.checkNotModified(etag.toString());
+    }
+
+    // 수정 시각 -> 마이크로초 (16진수, DB DATETIME(6) 정밀도)
+    private static String versionOf(LocalDateTime time) {
+        long micros = time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+        return Long.toHexString(micros);
+    }
+}
@@ -0,0 +1,409 @@
+package com.example.boardpjt.util;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 검색용 역색인 (메모리)
+ * - 토큰: 글자/숫자 구간마다 1글자(unigram) + 연속 2글자(bigram)
+ *   형태소 분석 없이도 한국어 부분 일치("게시판" -> "게시", "시판")가 되도록 함
+ * - 검색: 검색어의 bigram(1글자 검색어면 unigram) 포스팅 리스트를 모두 교집합
+ * - 포스팅 리스트: 게시글 id 오름차순 배열 (새 글은 id가 가장 크므로 대부분 끝에 추가)
+ * - 저장: 세그먼트 파일 하나에 통째로 기록하고 메모리 매핑으로 읽음 (재시작 시 전체 재색인 방지)
+ * 주의: bigram 교집합이므로 LIKE와 달리 "모든 bigram을 포함하지만 연속되지는 않은" 글도 결과에 포함될 수 있음
+ */
+public class InvertedIndex {
+
+    // 세그먼트 파일 헤더 ("PIDX")
+    private static final int MAGIC = 0x50494458;
+    private static final int VERSION = 1;
+
+    /**
+     * 단어 하나의 포스팅 리스트 (id 오름차순)
+     */
+    private static final class Postings {
+        private final String term;
+        private long[] ids = new long[4];
+        private int size;
+
+        private Postings(String term) {
+            this.term = term;
+        }
+
+        private void add(long id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                // 수정 등으로 예전 id가 다시 들어오는 경우 -> 정렬 위치에 삽입
+                int idx = Arrays.binarySearch(ids, 0, size, id);
+                if (idx >= 0) {
+                    return;
+                }
+                int at = -idx - 1;
+                grow();
+                System.arraycopy(ids, at, ids, at + 1, size - at);
+                ids[at] = id;
+                size++;
+                return;
+            }
+            grow();
+            ids[size++] = id;
+        }
+
+        private void remove(long id) {
+            int idx = Arrays.binarySearch(ids, 0, size, id);
+            if (idx < 0) {
+                return;
+            }
+            System.arraycopy(ids, idx + 1, ids, idx, size - idx - 1);
+            size--;
+        }
+
+        private boolean contains(long id, int toIndex) {
+            return Arrays.binarySearch(ids, 0, toIndex, id) >= 0;
+        }
+
+        private void grow() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 단어 -> 포스팅 리스트
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    // 게시글 id -> 해당 글이 들어 있는 포스팅 리스트 (수정/삭제 시 이전 단어 제거용)
+    private final Map<Long, Postings[]> documents = new HashMap<>();
+
+    // 마지막 저장 이후 변경 여부
+    private volatile boolean dirty;
+
+    /**
+     * 문서(제목 + 내용) 토큰화: 모든 unigram + bigram
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        forEachRun(text, run -> {
+            for (int i = 0; i < run.length(); i++) {
+                terms.add(run.substring(i, i + 1));
+                if (i + 1 < run.length()) {
+                    terms.add(run.substring(i, i + 2));
+                }
+            }
+        });
+        return terms;
+    }
+
+    /**
+     * 검색어 토큰화: 2글자 이상 구간은 bigram, 1글자 구간은 unigram
+     */
+    public static Set<String> queryTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        forEachRun(keyword, run -> {
+            if (run.length() == 1) {
+                terms.add(run);
+                return;
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                terms.add(run.substring(i, i + 2));
+            }
+        });
+        return terms;
+    }
+
+    // 글자/숫자가 연속된 구간마다 소문자로 바꿔서 전달 (공백, 문장부호는 구분자)
+    private static void forEachRun(String text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                consumer.accept(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * 게시글 추가 또는 수정 (이전 내용의 단어는 제거 후 다시 색인)
+     */
+    public void put(long id, String title, String content) {
+        Set<String> terms = tokenize(title + " " + content);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            Postings[] refs = new Postings[terms.size()];
+            int i = 0;
+            for (String term : terms) {
+                Postings p = postings.computeIfAbsent(term, Postings::new);
+                p.add(id);
+                refs[i++] = p;
+            }
+            documents.put(id, refs);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 삭제
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Postings[] refs = documents.remove(id);
+        if (refs == null) {
+            return;
+        }
+        for (Postings p : refs) {
+            p.remove(id);
+            if (p.size == 0) {
+                postings.remove(p.term);
+            }
+        }
+    }
+
+    /**
+     * 커서 기준 검색 (keyset)
+     *
+     * @param keyword 검색어
+     * @param cursor 기준 id (이 id는 포함하지 않음)
+     * @param limit 최대 개수
+     * @param descending true면 cursor보다 작은 id를 큰 순서로, false면 cursor보다 큰 id를 작은 순서로
+     * @return List<Long> 검색어의 모든 단어를 포함한 게시글 id
+     */
+    public List<Long> seek(String keyword, long cursor, int limit, boolean descending) {
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = postingsOf(keyword);
+            if (lists.isEmpty()) {
+                return List.of();
+            }
+            Postings shortest = lists.get(0);
+
+            // 커서 위치부터 시작 (커서 자체는 제외)
+            int idx = Arrays.binarySearch(shortest.ids, 0, shortest.size, cursor);
+            int from;
+            if (descending) {
+                from = idx >= 0 ? idx - 1 : -idx - 2;
+            } else {
+                from = idx >= 0 ? idx + 1 : -idx - 1;
+            }
+            int step = descending ? -1 : 1;
+
+            List<Long> ids = new ArrayList<>(Math.min(limit, shortest.size));
+            for (int i = from; i >= 0 && i < shortest.size && ids.size() < limit; i += step) {
+                long id = shortest.ids[i];
+                if (containsAll(lists, id)) {
+                    ids.add(id);
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 단어를 포함한 게시글 수
+     */
+    public int count(String keyword) {
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = postingsOf(keyword);
+            if (lists.isEmpty()) {
+                return 0;
+            }
+            Postings shortest = lists.get(0);
+            int count = 0;
+            for (int i = 0; i < shortest.size; i++) {
+                if (containsAll(lists, shortest.ids[i])) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어 단어들의 포스팅 리스트 (짧은 순, 없는 단어가 하나라도 있으면 빈 목록) - 읽기 락 안에서 호출
+    private List<Postings> postingsOf(String keyword) {
+        Set<String> terms = queryTerms(keyword);
+        List<Postings> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings p = postings.get(term);
+            if (p == null) {
+                return List.of(); // 없는 단어가 하나라도 있으면 결과 없음
+            }
+            lists.add(p);
+        }
+        // 가장 짧은 리스트를 기준으로 나머지에서 이진 탐색
+        lists.sort(Comparator.comparingInt(p -> p.size));
+        return lists;
+    }
+
+    private static boolean containsAll(List<Postings> lists, long id) {
+        for (int j = 1; j < lists.size(); j++) {
+            Postings p = lists.get(j);
+            if (!p.contains(id, p.size)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 색인된 게시글 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 게시글 id 목록 (재시작 후 DB와 비교해서 삭제된 글을 정리할 때 사용)
+     */
+    public List<Long> ids() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(documents.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * 세그먼트 파일로 저장 (임시 파일에 쓴 뒤 교체 -> 쓰는 도중 종료돼도 이전 파일은 유지)
+     * 형식: magic, version, watermark, 단어 수, [단어 길이, 단어(UTF-8), id 개수, id...]...
+     *
+     * @param file 세그먼트 파일 경로
+     * @param watermark 이 시각 이전의 변경은 모두 반영되어 있음 (재시작 시 이후 변경만 다시 색인)
+     */
+    public void writeTo(Path file, long watermark) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        lock.readLock().lock();
+        try {
+            dirty = false;
+            List<byte[]> names = new ArrayList<>(postings.size());
+            long bytes = 4 + 4 + 8 + 4;
+            for (Postings p : postings.values()) {
+                byte[] name = p.term.getBytes(StandardCharsets.UTF_8);
+                names.add(name);
+                bytes += 2 + name.length + 4 + 8L * p.size;
+            }
+            Files.deleteIfExists(tmp);
+            try (FileChannel channel = FileChannel.open(tmp,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                buffer.putInt(MAGIC).putInt(VERSION).putLong(watermark).putInt(postings.size());
+                int i = 0;
+                for (Postings p : postings.values()) {
+                    byte[] name = names.get(i++);
+                    buffer.putShort((short) name.length).put(name).putInt(p.size);
+                    for (int k = 0; k < p.size; k++) {
+                        buffer.putLong(p.ids[k]);
+                    }
+                }
+                buffer.force();
+            }
+        } catch (IOException | RuntimeException e) {
+            dirty = true;
+            throw e;
+        } finally {
+            lock.readLock().unlock();
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 세그먼트 파일을 메모리 매핑으로 읽어서 색인을 교체
+     *
+     * @return long 저장 당시의 watermark (파일이 없거나 형식이 맞지 않으면 -1)
+     */
+    public long readFrom(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return -1;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 20 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return -1;
+            }
+            long watermark = buffer.getLong();
+            int termCount = buffer.getInt();
+
+            Map<String, Postings> loaded = new HashMap<>(termCount * 2);
+            Map<Long, List<Postings>> docs = new HashMap<>();
+            for (int t = 0; t < termCount; t++) {
+                byte[] name = new byte[buffer.getShort()];
+                buffer.get(name);
+                Postings p = new Postings(new String(name, StandardCharsets.UTF_8));
+                int count = buffer.getInt();
+                p.ids = new long[Math.max(4, count)];
+                for (int k = 0; k < count; k++) {
+                    long id = buffer.getLong();
+                    p.ids[k] = id;
+                    docs.computeIfAbsent(id, x -> new ArrayList<>()).add(p);
+                }
+                p.size = count;
+                loaded.put(p.term, p);
+            }
+
+            lock.writeLock().lock();
+            try {
+                postings.clear();
+                postings.putAll(loaded);
+                documents.clear();
+                docs.forEach((id, refs) -> documents.put(id, refs.toArray(new Postings[0])));
+                dirty = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return watermark;
+        } catch (RuntimeException e) {
+            // 잘린 파일 등 -> 전체 재색인
+            System.err.println("검색 색인 파일 읽기 실패: " + e.getMessage());
+            return -1;
+        }
+    }
+}
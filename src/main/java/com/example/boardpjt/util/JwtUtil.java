@@ -2,23 +2,46 @@ package com.example.boardpjt.util;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * JWT(JSON Web Token) 관련 유틸리티 클래스
  * 토큰 생성, 검증, 파싱 기능을 제공하며 Access Token과 Refresh Token을 모두 지원
  * 설정 파일(application.yml)에서 비밀키와 만료 시간을 주입받아 사용
+ * jwt.profile=compact 이면 쿠키 크기를 줄인 토큰을 발급 (짧은 클레임 이름, 권한 비트마스크, 짧은 jti, iat 생략)
  */
 @Component // Spring 컨테이너가 관리하는 빈으로 등록
 public class JwtUtil {
 
+    // compact 프로필의 권한 클레임 이름 (값은 권한 비트마스크)
+    public static final String ROLE_BITS_CLAIM = "r";
+
+    // 사용자 id 클레임 이름 (쓰기 경로에서 username으로 사용자를 다시 조회하지 않도록)
+    public static final String USER_ID_CLAIM = "uid";
+
+    // 권한 -> 비트 (compact 프로필에서 "[ROLE_USER]" 문자열 대신 숫자로 저장)
+    private static final List<String> ROLE_BITS = List.of("ROLE_USER", "ROLE_ADMIN");
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     // JWT 서명에 사용할 비밀키 (HMAC-SHA 알고리즘 사용)
     private final SecretKey secretKey;
 
@@ -28,6 +51,15 @@ public class JwtUtil {
     // Refresh Token 만료 시간 (밀리초 단위)
     private final Long refreshExpiry;
 
+    // 서명 검증용 파서 (불변 객체이므로 한 번만 만들어서 재사용)
+    private final JwtParser jwtParser;
+
+    // 검증이 끝난 클레임 캐시 (토큰 해시 -> 클레임, exp까지 유효)
+    private final ClaimsCache claimsCache;
+
+    // true면 compact 프로필로 토큰 발급 (검증은 두 형식 모두 가능)
+    private final boolean compact;
+
     /**
      * JwtUtil 생성자
      * application.yml 설정값을 주입받아 JWT 관련 설정을 초기화
@@ -35,11 +67,15 @@ public class JwtUtil {
      * @param secret JWT 서명용 비밀키 문자열 (application.yml의 jwt.secret 값)
      * @param accessExpiry Access Token 만료 시간 (application.yml의 jwt.expiry.access 값)
      * @param refreshExpiry Refresh Token 만료 시간 (application.yml의 jwt.expiry.refresh 값)
+     * @param cacheMaxSize 검증된 클레임 캐시의 최대 항목 수 (application.yml의 jwt.cache.max-size 값, 0이면 캐시 사용 안 함)
+     * @param profile 토큰 형식 (application.yml의 jwt.profile 값, standard 또는 compact)
      */
     public JwtUtil(
             @Value("${jwt.secret}") String secret,           // 예: "mySecretKey123456789012345678901234567890"
             @Value("${jwt.expiry.access}") Long accessExpiry, // 예: 3600000 (1시간)
-            @Value("${jwt.expiry.refresh}") Long refreshExpiry) { // 예: 604800000 (7일)
+            @Value("${jwt.expiry.refresh}") Long refreshExpiry, // 예: 604800000 (7일)
+            @Value("${jwt.cache.max-size:10000}") int cacheMaxSize,
+            @Value("${jwt.profile:standard}") String profile) {
 
         // === 비밀키 생성 ===
         // 문자열 비밀키를 HMAC-SHA 알고리즘용 SecretKey 객체로 변환
@@ -50,10 +86,41 @@ public class JwtUtil {
         this.accessExpiry = accessExpiry;
         this.refreshExpiry = refreshExpiry;
 
+        // 파서는 요청마다 만들 필요가 없으므로 생성자에서 한 번만 빌드
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey) // 서명 검증용 비밀키 설정
+                .build();
+        this.claimsCache = new ClaimsCache(cacheMaxSize);
+        this.compact = "compact".equalsIgnoreCase(profile);
+
         // === 설정값 확인용 로그 (운영환경에서는 보안상 제거 권장) ===
         System.out.println("JWT 비밀키 설정 완료: " + secret);
         System.out.println("Access Token 만료시간: " + accessExpiry + "ms (" + (accessExpiry/1000/60) + "분)");
         System.out.println("Refresh Token 만료시간: " + refreshExpiry + "ms (" + (refreshExpiry/1000/60/60/24) + "일)");
+        System.out.println("JWT 토큰 형식: " + (compact ? "compact" : "standard"));
+    }
+
+    /**
+     * compact 프로필 여부
+     * compact이면 Refresh Token 쿠키를 /auth 경로로만 보내고, Access Token 쿠키는 세션 표시로 길게 유지
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+
+    /**
+     * Access Token 쿠키 유지 시간 (초)
+     * compact이면 Refresh Token과 같게 유지 -> 만료된 Access Token이 "재발급 필요" 신호가 됨
+     */
+    public int accessCookieMaxAge() {
+        return compact ? (int) (refreshExpiry / 1000) : 60 * 60;
+    }
+
+    /**
+     * Refresh Token 쿠키 경로 (compact이면 /auth 아래 요청에만 전송)
+     */
+    public String refreshCookiePath() {
+        return compact ? "/auth" : "/";
     }
 
     /**
@@ -66,7 +133,24 @@ public class JwtUtil {
      * @return String 생성된 JWT 토큰 문자열
      */
     public String generateToken(String username, String role, boolean isRefresh) {
-        return Jwts.builder()
+        return generateToken(null, username, role, isRefresh);
+    }
+
+    /**
+     * 사용자 id(uid 클레임)까지 담은 JWT 토큰 생성
+     *
+     * @param userId 사용자 id (null이면 uid 클레임 생략)
+     */
+    public String generateToken(Long userId, String username, String role, boolean isRefresh) {
+        if (compact) {
+            return generateCompactToken(userId, username, role, isRefresh);
+        }
+        JwtBuilder builder = Jwts.builder();
+        if (userId != null) {
+            // uid 클레임: 사용자 id (쓰기 경로에서 DB 조회 없이 사용)
+            builder.claim(USER_ID_CLAIM, userId);
+        }
+        return builder
                 // === JWT Payload 설정 ===
 
                 // subject 클레임: 토큰의 주체(사용자명) 설정
@@ -77,6 +161,9 @@ public class JwtUtil {
                 // "role" 키로 사용자의 권한 정보 저장 (예: "ROLE_USER", "ROLE_ADMIN")
                 .claim("role", role)
 
+                // jti (JWT ID): 토큰마다 고유한 id -> 로그아웃 시 폐기 목록에 올릴 때 사용
+                .id(UUID.randomUUID().toString())
+
                 // === JWT 시간 설정 ===
 
                 // iat (issued at): 토큰 발급 시간 설정
@@ -98,6 +185,76 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * compact 프로필 토큰 생성
+     * - 권한: "role":"[ROLE_USER]" 대신 "r":1 (알 수 없는 권한이 섞여 있으면 기존 문자열 클레임 사용)
+     * - jti: UUID(36자) 대신 96비트 난수(16자)
+     * - iat: 사용하는 곳이 없으므로 생략
+     */
+    private String generateCompactToken(Long userId, String username, String role, boolean isRefresh) {
+        JwtBuilder builder = Jwts.builder()
+                .subject(username)
+                .id(compactId())
+                .expiration(new Date(System.currentTimeMillis() + (isRefresh ? refreshExpiry : accessExpiry)));
+        if (userId != null) {
+            builder.claim(USER_ID_CLAIM, userId);
+        }
+        int bits = roleBits(role);
+        if (bits >= 0) {
+            builder.claim(ROLE_BITS_CLAIM, bits);
+        } else {
+            builder.claim("role", role);
+        }
+        return builder.signWith(secretKey).compact();
+    }
+
+    private static String compactId() {
+        byte[] bytes = new byte[12];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 권한 문자열("[ROLE_USER, ROLE_ADMIN]" 등) -> 비트마스크
+     *
+     * @return int 비트마스크 (표현할 수 없는 권한이 있으면 -1)
+     */
+    public static int roleBits(String role) {
+        int bits = 0;
+        for (String name : splitRoles(role)) {
+            int idx = ROLE_BITS.indexOf(name);
+            if (idx < 0) {
+                return -1;
+            }
+            bits |= 1 << idx;
+        }
+        return bits;
+    }
+
+    /**
+     * 비트마스크 -> 권한 이름 목록
+     */
+    public static List<String> roleNames(int bits) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < ROLE_BITS.size(); i++) {
+            if ((bits & (1 << i)) != 0) {
+                names.add(ROLE_BITS.get(i));
+            }
+        }
+        return names;
+    }
+
+    // "[ROLE_USER]", "[ROLE_USER, ROLE_ADMIN]", "ROLE_USER" 형태를 모두 처리
+    private static List<String> splitRoles(String role) {
+        if (!StringUtils.hasText(role)) {
+            return List.of();
+        }
+        return Arrays.stream(role.replace("[", "").replace("]", "").split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .toList();
+    }
+
     /**
      * JWT 토큰에서 클레임(페이로드 데이터)을 추출하는 메서드
      * 토큰 검증과 파싱을 동시에 수행
@@ -107,19 +264,32 @@ public class JwtUtil {
      * @throws 토큰이 유효하지 않을 경우 다양한 JWT 예외 발생
      */
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                // 서명 검증용 비밀키 설정
-                .verifyWith(secretKey)
-
-                // JWT 파서 빌드
-                .build()
-
-                // 토큰 파싱 및 서명 검증
-                // 이 과정에서 토큰 형식, 서명, 만료시간 등이 모두 검증됨
-                .parseSignedClaims(token)
+        // === 1단계: 이미 검증된 토큰인지 캐시에서 확인 ===
+        // 같은 Access Token이 짧은 시간에 여러 번 들어오므로 서명 검증/파싱을 생략
+        String key = ClaimsCache.keyOf(token);
+        Claims cached = claimsCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
 
+        // === 2단계: 토큰 파싱 및 서명 검증 ===
+        // 이 과정에서 토큰 형식, 서명, 만료시간 등이 모두 검증됨
+        Claims claims = jwtParser.parseSignedClaims(token)
                 // 페이로드(클레임) 데이터 반환
                 .getPayload();
+
+        // === 3단계: 검증 성공한 클레임만 캐시에 저장 (exp까지 유효) ===
+        claimsCache.put(key, claims);
+        return claims;
+    }
+
+    /**
+     * 클레임 캐시 통계 (관리자 페이지에서 적중률 확인용)
+     *
+     * @return BoundedCache.Stats 적중/실패/제거 횟수와 현재 크기
+     */
+    public BoundedCache.Stats getClaimsCacheStats() {
+        return claimsCache.stats();
     }
 
     /**
@@ -133,6 +303,16 @@ public class JwtUtil {
         return getClaims(token).getSubject();
     }
 
+    /**
+     * 클레임의 사용자 id (uid 클레임이 없는 이전 토큰이면 null)
+     *
+     * @param claims 검증이 끝난 JWT 클레임
+     * @return Long 사용자 id
+     */
+    public Long getUserId(Claims claims) {
+        return claims.get(USER_ID_CLAIM, Long.class);
+    }
+
     /**
      * JWT 토큰에서 사용자 권한(role)을 추출하는 메서드
      *
@@ -140,8 +320,32 @@ public class JwtUtil {
      * @return String 토큰에 포함된 권한 정보
      */
     public String getRole(String token) {
+        Claims claims = getClaims(token);
+        // compact 토큰이면 비트마스크를 기존과 같은 "[ROLE_USER]" 형태로 복원
+        Integer bits = claims.get(ROLE_BITS_CLAIM, Integer.class);
+        if (bits != null) {
+            return roleNames(bits).toString();
+        }
         // getClaims()를 통해 토큰 검증 후 "role" 커스텀 클레임을 String 타입으로 반환
-        return getClaims(token).get("role", String.class);
+        return claims.get("role", String.class);
+    }
+
+    /**
+     * 클레임의 "role" 값을 Spring Security 권한 목록으로 변환하는 메서드
+     * 로그인 시 authorities.toString() 형태("[ROLE_USER]")로 저장되므로 대괄호와 구분자를 정리
+     * compact 토큰의 비트마스크("r")도 처리 (프로필을 바꾼 직후 두 형식이 섞여 있어도 동작)
+     *
+     * @param claims 검증이 끝난 JWT 클레임
+     * @return List<GrantedAuthority> 권한 목록 (role 클레임이 없으면 빈 목록)
+     */
+    public List<GrantedAuthority> getAuthorities(Claims claims) {
+        Integer bits = claims.get(ROLE_BITS_CLAIM, Integer.class);
+        List<String> names = bits != null
+                ? roleNames(bits)
+                : splitRoles(claims.get("role", String.class));
+        return names.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
     }
 
     /**
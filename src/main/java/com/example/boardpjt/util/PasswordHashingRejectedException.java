@@ -0,0 +1,15 @@
+package com.example.boardpjt.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 비밀번호 해시 작업 대기열이 가득 찼거나 너무 오래 기다린 경우 발생
+ * 컨트롤러 밖으로 전파되면 429 Too Many Requests 응답
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class PasswordHashingRejectedException extends RuntimeException {
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.boardpjt.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-Sent Events 구독자에게 이벤트를 나눠 주는 허브 (서버 메모리)
+ * - 구독자는 여러 토픽(예: "post:12", "user:3")을 구독, 발행된 이벤트는 해당 토픽의 구독자 모두에게 전달
+ * - 구독자마다 크기가 정해진 대기열 -> 발행하는 쪽은 대기열에 넣기만 하고 전송은 전용 스레드가 처리
+ * - 대기열이 가득 찬(읽지 못하는 느린) 구독자는 연결을 끊음 -> 브라우저가 다시 연결하고 변경분을 조회
+ * - 여러 서버: 발행한 이벤트를 ClusterEventBus(Redis pub/sub)로 다른 노드에도 전달
+ */
+@Component
+public class SseHub {
+
+    // 다른 노드에 이벤트를 전달하는 채널
+    private static final String CHANNEL = "sse:event";
+
+    private static final char SEPARATOR = '|';
+
+    // 전송할 이벤트 (name이 null이면 연결 유지용 주석)
+    private record Event(String name, String data) {
+    }
+
+    // 구독자 한 명 (연결 하나)
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final List<String> topics;
+        private final ArrayBlockingQueue<Event> queue;
+        // 전송 스레드가 이 구독자의 대기열을 비우는 중인지
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, List<String> topics) {
+            this.emitter = emitter;
+            this.topics = topics;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+
+    public record Stats(int subscribers, long delivered, long dropped) {
+    }
+
+    private final ClusterEventBus clusterEventBus;
+
+    // 구독자별 대기열 크기
+    private final int queueCapacity;
+    // 연결 유지 시간 (지나면 브라우저가 다시 연결)
+    private final long timeoutMillis;
+
+    // 토픽 -> 구독자들
+    private final ConcurrentHashMap<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // 전송 전용 스레드 (느린 연결의 전송이 발행하는 요청 스레드를 막지 않음)
+    private final ExecutorService sender;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public SseHub(ClusterEventBus clusterEventBus,
+                  @Value("${sse.queue-capacity:64}") int queueCapacity,
+                  @Value("${sse.timeout-ms:1800000}") long timeoutMillis,
+                  @Value("${sse.sender-threads:4}") int senderThreads) {
+        this.clusterEventBus = clusterEventBus;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger seq = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "sse-sender-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PostConstruct
+    void subscribeCluster() {
+        // "{topic}|{name}|{data}" -> 이 노드의 구독자에게 전달
+        clusterEventBus.subscribe(CHANNEL, payload -> {
+            int first = payload.indexOf(SEPARATOR);
+            int second = payload.indexOf(SEPARATOR, first + 1);
+            if (first < 0 || second < 0) {
+                return;
+            }
+            deliver(payload.substring(0, first), payload.substring(first + 1, second), payload.substring(second + 1));
+        });
+    }
+
+    /**
+     * 새 구독 (토픽 여러 개)
+     */
+    public SseEmitter subscribe(List<String> topicNames) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, List.copyOf(topicNames));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+        subscribers.add(subscriber);
+        for (String topic : subscriber.topics) {
+            // 추가도 compute 안에서 (빈 집합을 지우는 remove와 겹쳐도 구독이 사라지지 않게)
+            topics.compute(topic, (k, set) -> {
+                Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+                target.add(subscriber);
+                return target;
+            });
+        }
+        // 응답 헤더를 바로 보내도록 첫 메시지 (브라우저 EventSource의 onopen)
+        enqueue(subscriber, new Event(null, "connected"));
+        return emitter;
+    }
+
+    /**
+     * 이벤트 발행 (이 노드의 구독자 + 다른 노드)
+     *
+     * @param data JSON 문자열
+     */
+    public void publish(String topic, String name, String data) {
+        deliver(topic, name, data);
+        clusterEventBus.publish(CHANNEL, topic + SEPARATOR + name + SEPARATOR + data);
+    }
+
+    /**
+     * 연결 유지용 주석 전송 (프록시의 유휴 연결 종료 방지, 끊긴 연결 정리) - 기본 25초마다
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        Event ping = new Event(null, "ping");
+        subscribers.forEach(s -> enqueue(s, ping));
+    }
+
+    public Stats stats() {
+        return new Stats(subscribers.size(), delivered.sum(), dropped.sum());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(this::close);
+        sender.shutdownNow();
+    }
+
+    private void deliver(String topic, String name, String data) {
+        Set<Subscriber> targets = topics.get(topic);
+        if (targets == null) {
+            return;
+        }
+        Event event = new Event(name, data);
+        targets.forEach(s -> enqueue(s, event));
+    }
+
+    private void enqueue(Subscriber subscriber, Event event) {
+        if (!subscriber.queue.offer(event)) {
+            // 대기열이 가득 참 = 읽지 못하는 느린 구독자 -> 끊고 다시 연결하게 함
+            dropped.increment();
+            close(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    // 대기열을 빌 때까지 전송 (구독자 한 명은 동시에 한 스레드만 전송)
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Event event;
+            while ((event = subscriber.queue.poll()) != null) {
+                try {
+                    if (event.name() == null) {
+                        subscriber.emitter.send(SseEmitter.event().comment(event.data()));
+                    } else {
+                        subscriber.emitter.send(SseEmitter.event().name(event.name())
+                                .data(event.data(), MediaType.APPLICATION_JSON));
+                        delivered.increment();
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // 이미 끊긴 연결
+                    close(subscriber);
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // 비우고 나서 들어온 이벤트가 있으면 다시 (다른 스레드가 이미 맡았으면 종료)
+            if (subscriber.queue.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            remove(subscriber);
+            subscriber.queue.clear();
+            try {
+                subscriber.emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 완료된 연결
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        for (String topic : subscriber.topics) {
+            topics.computeIfPresent(topic, (k, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- 삭제된 댓글 기록 (CommentTombstone, 댓글 변경분 조회용)
+-- 운영(ddl-auto: validate)에서는 배포 전에 실행
+CREATE TABLE comment_tombstone
+(
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    comment_id BIGINT      NOT NULL,
+    post_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NULL,
+    INDEX idx_comment_tombstone_post (post_id, id)
+);
@@ -0,0 +1,5 @@
+-- 게시글 FULLTEXT 검색 색인 (search.backend: fulltext)
+-- ngram 파서: 공백이 없는 한국어도 ngram_token_size(기본 2) 단위로 잘라서 색인
+-- 운영(ddl-auto: validate)에서는 배포 전에 직접 실행, 개발 환경에서는 서버 시작 시 없으면 자동 생성
+ALTER TABLE post
+    ADD FULLTEXT INDEX ft_post_title_content (title, content) WITH PARSER ngram;
@@ -0,0 +1,11 @@
+-- 게시글 목록 미리보기 컬럼 (Post.snippet)
+-- 운영(ddl-auto: validate)에서는 배포 전에 실행, 개발 환경(ddl-auto: update)에서는 컬럼이 자동 생성되므로 UPDATE만 실행
+ALTER TABLE post
+    ADD COLUMN snippet VARCHAR(200) NULL;
+
+-- 기존 게시글 채우기 (Post.snippetOf()와 같은 규칙: 공백 정리 후 100자)
+UPDATE post
+SET snippet = IF(CHAR_LENGTH(TRIM(REGEXP_REPLACE(content, '[[:space:]]+', ' '))) > 100,
+                 CONCAT(LEFT(TRIM(REGEXP_REPLACE(content, '[[:space:]]+', ' ')), 100), '…'),
+                 TRIM(REGEXP_REPLACE(content, '[[:space:]]+', ' ')))
+WHERE snippet IS NULL;
@@ -0,0 +1,4 @@
+-- 게시글 조회수 컬럼 (Post.views, PostViewCounter가 주기적으로 증가)
+-- 운영(ddl-auto: validate)에서는 배포 전에 실행
+ALTER TABLE post
+    ADD COLUMN views BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,82 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.config.JpaConfig;
+import com.example.boardpjt.model.dto.CommentDTO;
+import com.example.boardpjt.model.entity.UserAccount;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 댓글 작성 응답의 크기/쿼리 수가 작성자의 팔로워 수와 무관한지 테스트
+ * 팔로워가 없는 작성자와 팔로워가 많은 작성자의 댓글 작성을 비교
+ */
+@Import({CommentService.class, JpaConfig.class})
+class CommentCreateResponseTest extends QueryCountTestSupport {
+
+    private static final int FOLLOWERS = 200;
+
+    @Autowired
+    private CommentService commentService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 이름 길이가 같은 두 작성자 (응답 크기를 그대로 비교)
+    private Long lonelyId;
+    private Long popularId;
+    private Long lonelyPostId;
+    private Long popularPostId;
+
+    @BeforeEach
+    void setUp() {
+        UserAccount lonely = persistUser("lonely01");
+        UserAccount popular = persistUser("popular1");
+        for (int i = 0; i < FOLLOWERS; i++) {
+            UserAccount follower = persistUser("follower" + i);
+            follower.follow(popular);
+        }
+        lonelyId = lonely.getId();
+        popularId = popular.getId();
+        lonelyPostId = persistPost(lonely, "게시글", "본문").getId();
+        popularPostId = persistPost(popular, "게시글", "본문").getId();
+        startCounting();
+    }
+
+    @Test
+    void createCostDoesNotDependOnFollowerCount() throws Exception {
+        CommentDTO.Response lonely = commentService.addComment(lonelyId,
+                new CommentDTO.Request(lonelyPostId, "댓글", "lonely01"));
+        long lonelyStatements = statistics.getPrepareStatementCount();
+        int lonelyBytes = objectMapper.writeValueAsBytes(lonely).length;
+        em.clear();
+
+        statistics.clear();
+        CommentDTO.Response popular = commentService.addComment(popularId,
+                new CommentDTO.Request(popularPostId, "댓글", "popular1"));
+        long popularStatements = statistics.getPrepareStatementCount();
+        int popularBytes = objectMapper.writeValueAsBytes(popular).length;
+        // 응답을 직렬화해도 팔로우 목록(컬렉션)은 읽지 않음
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+
+        assertThat(popular.username()).isEqualTo("popular1");
+        assertThat(popular.postId()).isEqualTo(popularPostId);
+        assertThat(popularStatements).isEqualTo(lonelyStatements);
+        // 작성자/게시글은 참조만 -> INSERT 한 번 (사용자/게시글 SELECT 없음)
+        assertThat(popularStatements).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // id 자릿수 정도만 차이 날 수 있음
+        assertThat(Math.abs(popularBytes - lonelyBytes)).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void commentOnMissingPostIsRejected() {
+        assertThatThrownBy(() -> commentService.addComment(lonelyId,
+                new CommentDTO.Request(Long.MAX_VALUE, "댓글", "lonely01")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.config.JpaConfig;
+import com.example.boardpjt.model.dto.CommentDTO;
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.entity.UserAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 목록 API(findPage/findDelta)의 쿼리 수 테스트
+ * 작성자가 여러 명인 댓글 500개를 한 페이지로 읽을 때 작성자 N+1 없이 SELECT 2회(삭제 기록 커서 + 댓글 join)인지 확인
+ */
+@Import({CommentService.class, JpaConfig.class})
+class CommentThreadQueryCountTest extends QueryCountTestSupport {
+
+    private static final int COMMENTS = 500;
+    private static final int AUTHORS = 50;
+
+    @Autowired
+    private CommentService commentService;
+
+    private Long postId;
+    private Long[] authorIds;
+
+    @BeforeEach
+    void setUp() {
+        UserAccount[] authors = new UserAccount[AUTHORS];
+        authorIds = new Long[AUTHORS];
+        for (int i = 0; i < AUTHORS; i++) {
+            authors[i] = persistUser("commenter" + i);
+            authorIds[i] = authors[i].getId();
+        }
+        Post post = persistPost(authors[0], "댓글 많은 글", "본문");
+        postId = post.getId();
+        for (int i = 0; i < COMMENTS; i++) {
+            persistComment(post, authors[i % AUTHORS], "댓글 " + i);
+        }
+        startCounting(); // 1차 캐시를 비워서 작성자를 다시 읽어야 하는 상황으로
+    }
+
+    @Test
+    void pageOf500CommentsIsTwoSelects() {
+        CommentDTO.Page page = commentService.findPage(postId, 0, COMMENTS);
+        List<CommentDTO.Response> thread = page.comments();
+
+        assertThat(thread).hasSize(COMMENTS);
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.lastId()).isEqualTo(thread.get(COMMENTS - 1).id());
+        assertThat(page.tombstoneCursor()).isZero();
+        assertThat(thread.get(0).content()).isEqualTo("댓글 0");
+        assertThat(thread.get(COMMENTS - 1).username()).isEqualTo("commenter" + ((COMMENTS - 1) % AUTHORS));
+        assertThat(thread).allSatisfy(c -> assertThat(c.postId()).isEqualTo(postId));
+
+        // 마지막 삭제 기록 id + 댓글/작성자 join
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void deleteShowsUpInDeltaAfterTombstoneCursor() {
+        CommentDTO.Page page = commentService.findPage(postId, 0, COMMENTS);
+        CommentDTO.Response deleted = page.comments().get(7);
+        commentService.deleteById(deleted.id(), authorIds[7 % AUTHORS]);
+
+        CommentDTO.Delta delta = commentService.findDelta(postId, page.lastId(), page.tombstoneCursor(), COMMENTS);
+        assertThat(delta.added()).isEmpty();
+        assertThat(delta.deleted()).containsExactly(deleted.id());
+        assertThat(delta.hasMore()).isFalse();
+        assertThat(delta.lastId()).isEqualTo(page.lastId());
+        assertThat(delta.tombstoneCursor()).isGreaterThan(page.tombstoneCursor());
+
+        // 받은 커서로 다시 조회하면 같은 삭제를 또 내려주지 않음
+        CommentDTO.Delta next = commentService.findDelta(postId, delta.lastId(), delta.tombstoneCursor(), COMMENTS);
+        assertThat(next.deleted()).isEmpty();
+        assertThat(next.tombstoneCursor()).isEqualTo(delta.tombstoneCursor());
+    }
+}
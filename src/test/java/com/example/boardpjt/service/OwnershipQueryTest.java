@@ -0,0 +1,114 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.config.JpaConfig;
+import com.example.boardpjt.model.entity.Comment;
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.entity.UserAccount;
+import com.example.boardpjt.model.repository.LikePostSearch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 권한 확인/삭제 경로가 게시글·댓글 본문(TEXT)을 읽지 않는지 테스트
+ * 본문이 큰 게시글로 기존 경로(엔티티 로딩)와 할당 바이트를 비교
+ */
+@Import({PostService.class, CommentService.class, LikePostSearch.class, JpaConfig.class})
+class OwnershipQueryTest extends QueryCountTestSupport {
+
+    // 게시글 본문 크기 (글자 수)
+    private static final int BODY_LENGTH = 256 * 1024;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    private Long userId;
+    private Long otherUserId;
+    private Long postId;
+    private Long commentId;
+
+    @BeforeEach
+    void setUp() {
+        UserAccount user = persistUser("writer");
+        userId = user.getId();
+        otherUserId = persistUser("other").getId();
+        Post post = persistPost(user, "큰 게시글", "가".repeat(BODY_LENGTH));
+        postId = post.getId();
+        commentId = persistComment(post, user, "댓글 ".repeat(10_000)).getId();
+        startCounting();
+    }
+
+    @Test
+    void ownershipCheckReadsOnlyTheAuthorName() {
+        // 게시글 수정 화면의 권한 확인
+        assertThat(postService.findAuthorUsername(postId)).isEqualTo("writer");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void deleteRunsWithoutLoading() {
+        commentService.deleteById(commentId, userId);
+        // 댓글: 게시글 id 조회 + 작성자 조건 DELETE + 삭제 기록 INSERT
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+        postService.deleteById(postId, userId);
+        // 게시글: 작성자 조건 DELETE 한 번 (권한 확인 SELECT 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThatThrownBy(() -> postService.findAuthorUsername(postId))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(em.find(Comment.class, commentId)).isNull();
+    }
+
+    @Test
+    void deleteByAnotherUserChangesNothing() {
+        assertThatThrownBy(() -> postService.deleteById(postId, otherUserId))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> commentService.deleteById(commentId, otherUserId))
+                .isInstanceOf(SecurityException.class);
+
+        assertThat(postService.findAuthorUsername(postId)).isEqualTo("writer");
+        assertThat(em.find(Comment.class, commentId)).isNotNull();
+    }
+
+    @Test
+    void ownershipCheckAllocatesFarLessThanLoadingThePost() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        long thread = Thread.currentThread().getId();
+
+        // 쿼리 파싱/캐시 준비 비용은 제외
+        postService.findById(postId).getAuthor().getUsername();
+        postService.findAuthorUsername(postId);
+        em.clear();
+
+        // 기존: 엔티티 로딩 후 작성자 이름 비교 (본문 전체를 읽음)
+        long before = threads.getThreadAllocatedBytes(thread);
+        postService.findById(postId).getAuthor().getUsername();
+        long entityPath = threads.getThreadAllocatedBytes(thread) - before;
+        em.clear();
+
+        // 변경: 작성자 이름만 조회
+        before = threads.getThreadAllocatedBytes(thread);
+        postService.findAuthorUsername(postId);
+        long projectionPath = threads.getThreadAllocatedBytes(thread) - before;
+
+        // 본문(256K자)을 읽는 쪽은 최소 본문 크기만큼 할당
+        assertThat(entityPath).isGreaterThan(BODY_LENGTH);
+        assertThat(projectionPath).isLessThan(entityPath / 4);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.config.JpaConfig;
+import com.example.boardpjt.model.dto.PostDTO;
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.entity.UserAccount;
+import com.example.boardpjt.model.repository.LikePostSearch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 조회 경로의 쿼리 수 테스트
+ * 한 페이지를 읽을 때 SELECT가 1회이고 Post/UserAccount 엔티티를 로딩하지 않는지(N+1, content 조회 없음) 확인
+ */
+@Import({PostService.class, LikePostSearch.class, JpaConfig.class})
+class PostListQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자 3명, 게시글 30개
+        UserAccount[] authors = new UserAccount[3];
+        for (int i = 0; i < authors.length; i++) {
+            authors[i] = persistUser("writer" + i);
+        }
+        for (int i = 0; i < 30; i++) {
+            persistPost(authors[i % authors.length], "제목 " + i, "긴 본문 ".repeat(200) + i);
+        }
+        startCounting();
+    }
+
+    @Test
+    void firstPageIsOneSelectWithoutLoadingEntities() {
+        PostDTO.CursorPage page = postService.findWithPagingAndSearch("", null, 1);
+
+        assertThat(page.posts()).hasSize(5);
+        assertThat(page.posts()).allSatisfy(item -> {
+            assertThat(item.username()).startsWith("writer");
+            assertThat(item.snippet()).hasSizeLessThanOrEqualTo(Post.SNIPPET_LENGTH + 1);
+        });
+        assertThat(page.hasNext()).isTrue();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void laterPageAddsOnlyThePreviousLinkQuery() {
+        PostDTO.CursorPage first = postService.findWithPagingAndSearch("", null, 1);
+        statistics.clear();
+
+        PostDTO.CursorPage second = postService.findWithPagingAndSearch("", first.nextCursor(), 2);
+
+        assertThat(second.posts()).hasSize(5);
+        assertThat(second.posts().get(0).id()).isLessThan(first.nextCursor());
+        // 목록 1회 + 이전 페이지 링크용 id 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.boardpjt.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostViewCounter 단위 테스트 (DB 없이 메모리 누적/꺼내기만)
+ * 인기 게시글 하나에 여러 스레드가 동시에 조회수를 더하는 동안 주기적으로 꺼내도 조회수가 유실되지 않는지 확인
+ */
+class PostViewCounterTest {
+
+    private static final int THREADS = 8;
+    private static final int VIEWS_PER_THREAD = 200_000;
+
+    private final PostViewCounter counter = new PostViewCounter(null);
+
+    @Test
+    void concurrentViewsAreNotLostWhileDraining() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong drained = new AtomicLong();
+
+        // flush 주기 대신 계속 꺼내기 (동시 누적과 가장 많이 겹치도록)
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                counter.drain().values().forEach(drained::addAndGet);
+            }
+        });
+        flusher.start();
+
+        for (int t = 0; t < THREADS; t++) {
+            long postId = t % 2 == 0 ? 1L : t; // 절반은 같은 인기 게시글
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                    counter.increment(postId);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        running.set(false);
+        flusher.join();
+        counter.drain().values().forEach(drained::addAndGet);
+
+        assertThat(drained.get()).isEqualTo((long) THREADS * VIEWS_PER_THREAD);
+    }
+
+    @Test
+    void drainedPostsLeaveThePendingMap() {
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.increment(2L);
+
+        assertThat(counter.drain()).isEqualTo(Map.of(1L, 2L, 2L, 1L));
+        // 꺼낸 게시글은 맵에서 빠지므로 조회가 없던 다음 주기에는 꺼낼 것이 없음
+        assertThat(counter.drain()).isEmpty();
+
+        counter.increment(2L);
+        assertThat(counter.drain()).isEqualTo(Map.of(2L, 1L));
+    }
+}
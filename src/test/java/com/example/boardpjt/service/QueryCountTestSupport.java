@@ -0,0 +1,61 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.model.entity.Comment;
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.entity.UserAccount;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * 쿼리 수 테스트 공통 설정 (내장 H2 + Hibernate 통계)
+ * 하위 클래스는 @Import로 테스트할 서비스만 지정하고, 데이터를 만든 뒤 startCounting()부터 SQL을 셈
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+abstract class QueryCountTestSupport {
+
+    @Autowired
+    protected TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected Statistics statistics;
+
+    /**
+     * 만든 데이터를 DB에 반영하고 1차 캐시를 비운 뒤 통계 초기화 (이후 실제로 실행된 SQL만 셈)
+     */
+    protected void startCounting() {
+        em.flush();
+        em.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    protected UserAccount persistUser(String username) {
+        UserAccount user = new UserAccount();
+        user.setUsername(username);
+        user.setPassword("{noop}password");
+        user.setRole("ROLE_USER");
+        return em.persist(user);
+    }
+
+    protected Post persistPost(UserAccount author, String title, String content) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent(content);
+        post.setAuthor(author);
+        return em.persist(post);
+    }
+
+    protected Comment persistComment(Post post, UserAccount author, String content) {
+        Comment comment = new Comment();
+        comment.setContent(content);
+        comment.setAuthor(author);
+        comment.setPost(post);
+        return em.persist(comment);
+    }
+}
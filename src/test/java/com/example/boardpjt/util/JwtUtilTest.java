@@ -0,0 +1,99 @@
+package com.example.boardpjt.util;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtUtil 단위 테스트 (Spring 컨텍스트 없이 직접 생성)
+ * standard / compact 프로필의 토큰 호환성과 요청당 Cookie 헤더 크기를 비교
+ */
+class JwtUtilTest {
+
+    private static final String SECRET = "testSecretKey123456789012345678901234567890";
+    private static final long ACCESS = 3600000L;
+    private static final long REFRESH = 604800000L;
+
+    private final JwtUtil standard = new JwtUtil(SECRET, ACCESS, REFRESH, 100, "standard");
+    private final JwtUtil compact = new JwtUtil(SECRET, ACCESS, REFRESH, 100, "compact");
+
+    @Test
+    void compactTokenKeepsSubjectRoleAndId() {
+        String token = compact.generateToken("user01", "[ROLE_USER, ROLE_ADMIN]", false);
+        Claims claims = compact.getClaims(token);
+
+        assertThat(claims.getSubject()).isEqualTo("user01");
+        assertThat(claims.getId()).hasSize(16);
+        assertThat(claims.get(JwtUtil.ROLE_BITS_CLAIM, Integer.class)).isEqualTo(3);
+        assertThat(compact.getRole(token)).isEqualTo("[ROLE_USER, ROLE_ADMIN]");
+        assertThat(compact.getAuthorities(claims))
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void bothProfilesReadEachOthersTokens() {
+        // 프로필을 바꾼 직후에도 이전 형식 토큰이 그대로 동작해야 함
+        String standardToken = standard.generateToken("user01", "[ROLE_USER]", false);
+        String compactToken = compact.generateToken("user01", "[ROLE_USER]", false);
+
+        assertThat(compact.getAuthorities(compact.getClaims(standardToken)))
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+        assertThat(standard.getAuthorities(standard.getClaims(compactToken)))
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void userIdClaimIsOptional() {
+        // uid가 있으면 두 프로필 모두 그대로 읽힘, 이전 토큰(uid 없음)은 null
+        assertThat(standard.getUserId(standard.getClaims(standard.generateToken(42L, "user01", "[ROLE_USER]", false))))
+                .isEqualTo(42L);
+        assertThat(compact.getUserId(compact.getClaims(compact.generateToken(42L, "user01", "[ROLE_USER]", false))))
+                .isEqualTo(42L);
+        assertThat(compact.getUserId(compact.getClaims(compact.generateToken("user01", "[ROLE_USER]", false))))
+                .isNull();
+    }
+
+    @Test
+    void unknownRoleFallsBackToStringClaim() {
+        String token = compact.generateToken("user01", "[ROLE_MANAGER]", false);
+
+        assertThat(JwtUtil.roleBits("[ROLE_MANAGER]")).isEqualTo(-1);
+        assertThat(compact.getRole(token)).isEqualTo("[ROLE_MANAGER]");
+    }
+
+    @Test
+    void compactProfileShrinksCookieHeaderPerRequest() {
+        // 일반 페이지/정적 리소스 요청마다 브라우저가 보내는 Cookie 헤더
+        // standard: access_token + refresh_token (둘 다 "/" 경로)
+        // compact: access_token만 (refresh_token은 /auth 경로에서만 전송)
+        String standardHeader = "access_token=" + standard.generateToken("user01", "[ROLE_USER]", false)
+                + "; refresh_token=" + standard.generateToken("user01", "[ROLE_USER]", true);
+        String compactHeader = "access_token=" + compact.generateToken("user01", "[ROLE_USER]", false);
+
+        int standardBytes = standardHeader.getBytes(StandardCharsets.US_ASCII).length;
+        int compactBytes = compactHeader.getBytes(StandardCharsets.US_ASCII).length;
+
+        // refresh_token이 빠지는 것만으로 절반 이상 줄어들어야 함
+        assertThat(compactBytes * 2).isLessThan(standardBytes);
+
+        // 같은 Access Token끼리 비교해도 compact가 더 작아야 함 (클레임 축약 효과)
+        String standardAccess = standard.generateToken("user01", "[ROLE_USER]", false);
+        String compactAccess = compact.generateToken("user01", "[ROLE_USER]", false);
+        assertThat(compactAccess.length()).isLessThan(standardAccess.length());
+    }
+
+    @Test
+    void roleBitsRoundTrip() {
+        assertThat(JwtUtil.roleBits("[ROLE_USER]")).isEqualTo(1);
+        assertThat(JwtUtil.roleBits("ROLE_ADMIN")).isEqualTo(2);
+        assertThat(JwtUtil.roleNames(3)).isEqualTo(List.of("ROLE_USER", "ROLE_ADMIN"));
+    }
+}